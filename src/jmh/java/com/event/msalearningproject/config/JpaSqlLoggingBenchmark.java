@@ -0,0 +1,81 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.MsaLearningProjectApplication;
+import com.event.msalearningproject.member.MemberBenchmarkContext;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * persistence unit 설정별 기동 시간 / 조회 처리량 비교
+ * - default: SQL 출력 없음
+ * - show-sql: 이전 DataSourceConfig 와 같이 모든 SQL 을 format 하여 stdout 으로 출력 (출력 내용은 버림)
+ * 기동 시간은 trial 마다 출력
+ * ./gradlew jmh -Pjmh.includes=JpaSqlLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JpaSqlLoggingBenchmark {
+
+    private static final int MEMBER_COUNT = 200;
+
+    @Param({"default", "show-sql"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private PrintStream stdout;
+    private final List<String> userIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        long startedAt = System.nanoTime();
+        context = new SpringApplicationBuilder(MsaLearningProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:jpa-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "member.security.bcrypt-strength=4",
+                        // 조회마다 SQL 이 실행되도록 2차 캐시 비활성화
+                        "member.entity-cache.maximum-size=0",
+                        "spring.jpa.show-sql=" + mode.equals("show-sql"),
+                        "spring.jpa.properties.hibernate.format_sql=" + mode.equals("show-sql"))
+                .run();
+        stdout.printf("%n[mode=%s] startup=%dms%n", mode, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        MemberService memberService = context.getBean(MemberService.class);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            userIds.add(memberService.join(MemberBenchmarkContext.nextJoinRequest()).getUserId());
+        }
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object findByUserId() {
+        String userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        return memberRepository.findByUserId(userId);
+    }
+}
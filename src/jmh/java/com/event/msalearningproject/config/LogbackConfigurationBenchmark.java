@@ -0,0 +1,59 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.controller.MemberController;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * logback-spring.xml 프로파일별 요청 스레드의 로그 비용 비교
+ * - default: 동기 ConsoleAppender + 호출 위치(%C/%F/%L) 패턴
+ * - prod: AsyncAppender(neverBlock, 호출 위치 없음) + JSON encoder
+ * 여러 요청 스레드가 회원 조회마다 INFO 로그를 남기는 상황을 재현 (stdout 출력은 버림)
+ * ./gradlew jmh -Pjmh.includes=LogbackConfigurationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LogbackConfigurationBenchmark {
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private LoggingSystem loggingSystem;
+    private PrintStream stdout;
+    private Logger log;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // ConsoleAppender 는 쓰기마다 System.out 을 참조하므로 출력 비용은 유지하고 내용만 버림
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.setActiveProfiles(profile);
+        loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml", null);
+        log = LoggerFactory.getLogger(MemberController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggingSystem.cleanUp();
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void logRequest() {
+        log.info("회원 조회 요청 (ID): userId={}", "testuser");
+    }
+}
@@ -0,0 +1,44 @@
+package com.event.msalearningproject.member;
+
+import com.event.msalearningproject.MsaLearningProjectApplication;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 벤치마크용 애플리케이션 컨텍스트 (H2 in-memory DB, 웹 서버 없이 기동)
+public final class MemberBenchmarkContext {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private MemberBenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(MsaLearningProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:jmh-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "member.security.bcrypt-strength=4")
+                .run();
+    }
+
+    // userId / email / contact 가 겹치지 않는 가입 요청 생성
+    public static MemberJoinRequest nextJoinRequest() {
+        long sequence = SEQUENCE.incrementAndGet();
+        return MemberJoinRequest.builder()
+                .userId("bench" + sequence)
+                .password("password123!")
+                .name("벤치")
+                .email("bench" + sequence + "@naver.com")
+                .contact(String.format("010-%04d-%04d", (sequence / 10000) % 10000, sequence % 10000))
+                .messageType(MessageType.values()[(int) (sequence % MessageType.values().length)])
+                .build();
+    }
+}
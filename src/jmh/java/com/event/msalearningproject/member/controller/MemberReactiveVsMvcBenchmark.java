@@ -0,0 +1,90 @@
+package com.event.msalearningproject.member.controller;
+
+import com.event.msalearningproject.MsaLearningProjectApplication;
+import com.event.msalearningproject.config.ReactiveServerConfig;
+import com.event.msalearningproject.member.MemberBenchmarkContext;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 동시성(256 클라이언트 스레드)에서 회원 조회 API 처리량 비교 (MVC + JDBC vs WebFlux + R2DBC)
+ * 두 API 가 같은 DB 를 보도록 JDBC / R2DBC 모두 같은 이름의 in-memory H2 에 연결하고, 회원 캐시는 비활성화
+ * ./gradlew jmh -Pjmh.includes=MemberReactiveVsMvcBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberReactiveVsMvcBenchmark {
+
+    private static final int MEMBER_COUNT = 200;
+
+    @Param({"mvc", "reactive"})
+    private String stack;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private final List<String> userIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String database = "reactive-" + System.nanoTime();
+        context = new SpringApplicationBuilder(MsaLearningProjectApplication.class)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "member.security.bcrypt-strength=4",
+                        // 두 스택 모두 매 요청이 DB 까지 내려가도록 응답 캐시 / 2차 캐시 비활성화
+                        "member.cache.maximum-size=0",
+                        "member.entity-cache.maximum-size=0",
+                        "member.reactive.enabled=true",
+                        "member.reactive.port=0")
+                .run();
+
+        MemberService memberService = context.getBean(MemberService.class);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            MemberJoinRequest request = MemberBenchmarkContext.nextJoinRequest();
+            memberService.join(request);
+            userIds.add(request.getUserId());
+        }
+
+        int port = "reactive".equals(stack)
+                ? context.getBean(ReactiveServerConfig.ReactiveMemberServer.class).getPort()
+                : ((WebServerApplicationContext) context).getWebServer().getPort();
+        String path = "reactive".equals(stack) ? "/msa/reactive/v1/members/" : "/msa/v1/members/";
+        baseUrl = "http://localhost:" + port + path;
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(256)
+    public int findByUserId() throws Exception {
+        String userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + userId)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
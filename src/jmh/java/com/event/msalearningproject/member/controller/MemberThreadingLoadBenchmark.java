@@ -0,0 +1,98 @@
+package com.event.msalearningproject.member.controller;
+
+import com.event.msalearningproject.MsaLearningProjectApplication;
+import com.event.msalearningproject.member.MemberBenchmarkContext;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 스레드 모델 비교 부하 테스트 (platform thread Tomcat worker vs virtual thread)
+ * 회원 캐시를 끄고 조회 API 를 동시에 호출하여 처리량을 측정하고, iteration 마다 JVM 스레드 수를 로그로 남김
+ * ./gradlew jmh -Pjmh.includes=MemberThreadingLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberThreadingLoadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberThreadingLoadBenchmark.class);
+    private static final int MEMBER_COUNT = 200;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private final List<String> userIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MsaLearningProjectApplication.class)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:load-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.event.msalearningproject.member.controller.MemberThreadingLoadBenchmark=INFO",
+                        "member.security.bcrypt-strength=4",
+                        // 매 요청이 DB 까지 내려가도록 캐시 비활성화
+                        "member.cache.maximum-size=0",
+                        "member.entity-cache.maximum-size=0")
+                .run();
+
+        MemberService memberService = context.getBean(MemberService.class);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            MemberJoinRequest request = MemberBenchmarkContext.nextJoinRequest();
+            memberService.join(request);
+            userIds.add(request.getUserId());
+        }
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/msa/v1/members/";
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void logThreadCounts() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        // ThreadMXBean 은 platform thread 만 집계 (virtual thread 는 carrier 수만큼만 보임)
+        log.info("[virtualThreads={}] live platform threads={}, peak={}",
+                virtualThreads, threads.getThreadCount(), threads.getPeakThreadCount());
+        threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(256)
+    public int findByUserId() throws Exception {
+        String userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + userId)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
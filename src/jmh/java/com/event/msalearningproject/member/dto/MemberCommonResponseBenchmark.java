@@ -0,0 +1,66 @@
+package com.event.msalearningproject.member.dto;
+
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberCommonResponseBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private MemberCommonResponse<MemberResponse> single;
+    private MemberCommonResponse<MemberPageResponse> page;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 동일하게 날짜를 ISO 문자열로 직렬화
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<MemberResponse> members = IntStream.range(0, size)
+                .mapToObj(i -> MemberResponse.builder()
+                        .id((long) i)
+                        .userId("user" + i)
+                        .name("춘봉")
+                        .email("user" + i + "@naver.com")
+                        .contact("010-1234-5678")
+                        .messageType(MessageType.SMS)
+                        .active(true)
+                        .joinDate(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        single = MemberCommonResponse.success(members.get(0));
+        page = MemberCommonResponse.success(MemberPageResponse.builder()
+                .members(members)
+                .nextCursor((long) size)
+                .hasNext(true)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] serializeMember() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeMemberPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
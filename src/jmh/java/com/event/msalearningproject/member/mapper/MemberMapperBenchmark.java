@@ -0,0 +1,58 @@
+package com.event.msalearningproject.member.mapper;
+
+import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private MemberMapper memberMapper;
+    private MemberEntity member;
+    private List<MemberEntity> members;
+
+    @Setup
+    public void setUp() {
+        memberMapper = Mappers.getMapper(MemberMapper.class);
+        members = IntStream.range(0, size)
+                .mapToObj(this::member)
+                .toList();
+        member = members.get(0);
+    }
+
+    @Benchmark
+    public MemberResponse toResponse() {
+        return memberMapper.toResponse(member);
+    }
+
+    @Benchmark
+    public List<MemberResponse> toActiveResponseList() {
+        return memberMapper.toActiveResponseList(members);
+    }
+
+    private MemberEntity member(int i) {
+        return MemberEntity.builder()
+                .id((long) i)
+                .userId("user" + i)
+                .password("encodedPassword")
+                .name("춘봉")
+                .email("user" + i + "@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .active(true)
+                .joinDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.MemberBenchmarkContext;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 회원가입 중복 검사: 기존 3회 조회 방식과 단일 집계 조회 방식 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberDuplicateCheckBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private MemberJoinRequest freshRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MemberBenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+
+        MemberService memberService = context.getBean(MemberService.class);
+        IntStream.range(0, 1000).forEach(i -> memberService.join(MemberBenchmarkContext.nextJoinRequest()));
+        freshRequest = MemberBenchmarkContext.nextJoinRequest();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean legacyThreeLookups() {
+        return memberRepository.findByUserId(freshRequest.getUserId()).isPresent()
+                || memberRepository.findByEmail(freshRequest.getEmail()).isPresent()
+                || memberRepository.findByContact(freshRequest.getContact()).isPresent();
+    }
+
+    @Benchmark
+    public MemberDuplicateProbe singleProbe() {
+        return memberRepository.probeDuplicates(
+                freshRequest.getUserId(), freshRequest.getEmail(), freshRequest.getContact());
+    }
+}
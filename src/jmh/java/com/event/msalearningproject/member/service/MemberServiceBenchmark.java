@@ -0,0 +1,46 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.MemberBenchmarkContext;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private String existingUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MemberBenchmarkContext.start();
+        memberService = context.getBean(MemberService.class);
+
+        MemberJoinRequest existing = MemberBenchmarkContext.nextJoinRequest();
+        memberService.join(existing);
+        existingUserId = existing.getUserId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MemberResponse join() {
+        return memberService.join(MemberBenchmarkContext.nextJoinRequest());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MemberResponse findByUserId() {
+        return memberService.findByUserId(existingUserId);
+    }
+}
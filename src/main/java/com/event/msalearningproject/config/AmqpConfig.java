@@ -0,0 +1,118 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import com.event.msalearningproject.member.service.AmqpMessageConsumer;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MessageType 별 queue 와 consumer 를 분리하여 느린 채널(EMAIL 등)이 다른 채널을 막지 않도록 구성
+ * 재시도 후에도 실패한 메시지는 dead-letter queue 로 이동
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "amqp")
+@EnableConfigurationProperties(MessageAmqpProperties.class)
+public class AmqpConfig implements RabbitListenerConfigurer {
+
+    private final MessageAmqpProperties properties;
+    private final ConnectionFactory connectionFactory;
+    private final ObjectProvider<RabbitTemplate> rabbitTemplate;
+    private final ObjectProvider<AmqpMessageConsumer> amqpMessageConsumer;
+    private final boolean virtualThreads;
+
+    public AmqpConfig(MessageAmqpProperties properties,
+                      ConnectionFactory connectionFactory,
+                      ObjectProvider<RabbitTemplate> rabbitTemplate,
+                      ObjectProvider<AmqpMessageConsumer> amqpMessageConsumer,
+                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.properties = properties;
+        this.connectionFactory = connectionFactory;
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpMessageConsumer = amqpMessageConsumer;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Bean
+    public static MessageConverter messageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public Declarables messageDeclarables() {
+        DirectExchange exchange = new DirectExchange(properties.getExchange());
+        DirectExchange deadLetterExchange = new DirectExchange(properties.getDeadLetterExchange());
+        Queue deadLetterQueue = QueueBuilder.durable(properties.getDeadLetterQueue()).build();
+
+        List<Declarable> declarables = new ArrayList<>(List.of(exchange, deadLetterExchange, deadLetterQueue));
+        for (MessageType messageType : MessageType.values()) {
+            Queue queue = QueueBuilder.durable(properties.queueName(messageType))
+                    .deadLetterExchange(properties.getDeadLetterExchange())
+                    .deadLetterRoutingKey(messageType.name())
+                    .build();
+
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(messageType.name()));
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(messageType.name()));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        MessageConverter converter = messageConverter();
+        AmqpMessageConsumer consumer = amqpMessageConsumer.getObject();
+
+        for (MessageType messageType : MessageType.values()) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId("member-message-" + messageType.name().toLowerCase());
+            endpoint.setQueueNames(properties.queueName(messageType));
+            endpoint.setMessageListener(message -> consumer.consume((MessageEvent) converter.fromMessage(message)));
+
+            registrar.registerEndpoint(endpoint, listenerContainerFactory(messageType));
+        }
+    }
+
+    // 채널마다 concurrency / prefetch 를 따로 적용하기 위해 queue 별 factory 생성
+    private SimpleRabbitListenerContainerFactory listenerContainerFactory(MessageType messageType) {
+        MessageAmqpProperties.Channel channel = properties.channel(messageType);
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(channel.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(channel.getConcurrency(), channel.getMaxConcurrency()));
+        factory.setPrefetchCount(channel.getPrefetch());
+        factory.setDefaultRequeueRejected(false);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("member-message-" + messageType.name().toLowerCase() + "-");
+            executor.setVirtualThreads(true);
+            factory.setTaskExecutor(executor);
+        }
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(properties.getMaxAttempts())
+                .backOffOptions(properties.getInitialBackoffMs(), 2.0, properties.getInitialBackoffMs() * 10)
+                .recoverer(new RepublishMessageRecoverer(rabbitTemplate.getObject(),
+                        properties.getDeadLetterExchange(), messageType.name()))
+                .build());
+        return factory;
+    }
+}
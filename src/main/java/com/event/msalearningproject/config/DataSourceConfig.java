@@ -2,11 +2,23 @@ package com.event.msalearningproject.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -14,45 +26,109 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
-import java.util.HashMap;
 
 @Configuration
-@EnableJpaRepositories(basePackages =
-        "com.event.msalearningproject.example.repository"
+@EnableConfigurationProperties({JpaProperties.class, HibernateProperties.class})
+@EnableJpaRepositories(basePackages = {
+        "com.event.msalearningproject.example.repository",
+        "com.event.msalearningproject.member.repository"}
         , transactionManagerRef = "jpaTransactionManager")
 public class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix="spring.datasource.hikari")
     public HikariConfig hikariConfig() {return new HikariConfig();}
 
+    // 읽기 전용 풀 - jdbc-url 을 지정하지 않으면 쓰기 풀과 같은 DB 에 연결 (replica 는 jdbc-url 로 지정)
     @Bean
-    public DataSource dataSource(){
-        return new HikariDataSource(hikariConfig());
+    @ConfigurationProperties(prefix="spring.datasource.read.hikari")
+    public HikariConfig readHikariConfig() {return new HikariConfig();}
+
+    // 가입 / 탈퇴 등 쓰기 트랜잭션용 (primary)
+    @Bean
+    public HikariDataSource writeDataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+        return createPool(hikariConfig(), meterRegistry);
     }
 
+    // @Transactional(readOnly = true) 조회 / 목록 / 내보내기용 - 긴 조회가 쓰기 풀의 커넥션을 점유하지 않도록 분리
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    public HikariDataSource readDataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig write = hikariConfig();
+        HikariConfig config = readHikariConfig();
+        if (config.getJdbcUrl() == null) {
+            config.setJdbcUrl(write.getJdbcUrl());
+            config.setDriverClassName(write.getDriverClassName());
+            config.setUsername(write.getUsername());
+            config.setPassword(write.getPassword());
+        }
+        config.setReadOnly(true);
+        return createPool(config, meterRegistry);
+    }
+
+    /**
+     * 트랜잭션이 읽기 전용이면 읽기 풀, 아니면 쓰기 풀의 커넥션을 사용
+     * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로, 트랜잭션 시작 시 지정된 read-only 여부(Connection#setReadOnly)로 풀이 결정됨
+     * (쓰기 트랜잭션 안의 읽기 전용 호출은 이미 가져온 쓰기 커넥션을 그대로 사용)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readDataSource);
+        return dataSource;
+    }
+
+    private HikariDataSource createPool(HikariConfig config, ObjectProvider<MeterRegistry> meterRegistry) {
+        // 풀 생성 후에는 설정이 봉인되므로 hikaricp.connections.* 메트릭(pool 태그로 풀별 구분)은 생성 전에 연결
+        meterRegistry.ifAvailable(registry ->
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        HikariDataSource dataSource = new HikariDataSource(config);
+
+        // 풀 포화도 (사용 중 커넥션 / 최대 커넥션) - 대기 스레드 수는 hikaricp.connections.pending
+        meterRegistry.ifAvailable(registry -> Gauge.builder("member.datasource.usage", dataSource,
+                        pool -> (double) pool.getHikariPoolMXBean().getActiveConnections() / pool.getMaximumPoolSize())
+                .tag("pool", dataSource.getPoolName())
+                .description("커넥션 풀 사용률")
+                .register(registry));
+        return dataSource;
+    }
+
+    /**
+     * 회원 / 메시지 / example 엔티티를 하나의 persistence unit 으로 구성
+     * Hibernate 설정은 spring.jpa.* 에서 읽음 (ddl-auto, snake_case naming, batch / plan cache 등은 application.yml 과 프로파일별 재정의)
+     */
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+            JpaProperties jpaProperties, HibernateProperties hibernateProperties,
+            ObjectProvider<HibernatePropertiesCustomizer> hibernatePropertiesCustomizers) {
         LocalContainerEntityManagerFactoryBean emf = new LocalContainerEntityManagerFactoryBean();
-        emf.setJpaVendorAdapter(jpaVendorAdapter());
+        emf.setJpaVendorAdapter(jpaVendorAdapter(jpaProperties));
         emf.setDataSource(dataSource);
         emf.setPersistenceUnitName("persistenceJpa");
-        emf.setPackagesToScan("com.event.msalearningproject.example.entity");
-
-        // Hibernate  configuration properties
-        HashMap<String, Object> properties = new HashMap<>();
-        properties.put("hibernate.hbm2ddl.auto", "create-drop");
-        properties.put("hibernate.show_sql", true);
-        properties.put("hibernate.format_sql", true);
-        emf.setJpaPropertyMap(properties);
+        emf.setPackagesToScan(
+                "com.event.msalearningproject.example.entity",
+                "com.event.msalearningproject.member.repository.entity");
+
+        // spring.jpa.hibernate.* (ddl-auto, naming strategy) + spring.jpa.properties.*
+        HibernateSettings settings = new HibernateSettings()
+                .hibernatePropertiesCustomizers(hibernatePropertiesCustomizers.orderedStream().toList());
+        emf.setJpaPropertyMap(hibernateProperties.determineHibernateProperties(jpaProperties.getProperties(), settings));
         return emf;
     }
 
-    private JpaVendorAdapter jpaVendorAdapter(){
+    private JpaVendorAdapter jpaVendorAdapter(JpaProperties jpaProperties) {
         HibernateJpaVendorAdapter jpaVendorAdapter = new HibernateJpaVendorAdapter();
-        jpaVendorAdapter.setShowSql(true);
+        jpaVendorAdapter.setShowSql(jpaProperties.isShowSql());
+        jpaVendorAdapter.setGenerateDdl(jpaProperties.isGenerateDdl());
+        if (jpaProperties.getDatabasePlatform() != null) {
+            jpaVendorAdapter.setDatabasePlatform(jpaProperties.getDatabasePlatform());
+        }
         return jpaVendorAdapter;
     }
+
+    // R2DBC(ReactiveMemberService) 트랜잭션 매니저와 함께 등록되므로 @Transactional 기본값으로 지정
     @Bean
+    @Primary
     public PlatformTransactionManager jpaTransactionManager(EntityManagerFactory entityManagerFactory) {
         JpaTransactionManager jpaTransactionManager = new JpaTransactionManager();
         jpaTransactionManager.setEntityManagerFactory(entityManagerFactory);
@@ -0,0 +1,76 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache - Caffeine)
+ * MemberEntity 엔티티 region 과 userId natural-id region 을 크기 / TTL 을 지정하여 미리 생성 (정의하지 않은 region 은 기동 실패)
+ * 용량을 넘으면 W-TinyLFU 로 제거되며, hit / miss / put / eviction 통계는 cache.* 메트릭 (cache 태그: region 이름)
+ * 캐시는 노드(JVM)마다 따로이며 노드 간 무효화가 없음 - 한 노드에서 탈퇴 / 수정한 회원을 다른 노드는 TTL 동안 이전 상태로 읽을 수 있음
+ * 그래서 상태가 바뀌는 member region 은 TTL 을 짧게(ttl) 두고, 바뀌지 않는 userId → id 매핑인 natural-id region 만 길게(natural-id-ttl) 둠
+ * (노드 간 즉시 일관성이 필요하면 무효화를 전파하는 clustered JCache provider 로 교체)
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // 컨텍스트마다 별도의 CacheManager (테스트 등에서 여러 컨텍스트가 같은 region 이름을 사용)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(ObjectProvider<MeterRegistry> meterRegistry,
+                                              @Value("${member.entity-cache.maximum-size:100000}") long maximumSize,
+                                              @Value("${member.entity-cache.ttl:1m}") Duration ttl,
+                                              @Value("${member.entity-cache.natural-id-ttl:30m}") Duration naturalIdTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        Map<String, Duration> regions = Map.of(
+                MemberEntity.CACHE_REGION, ttl,
+                MemberEntity.NATURAL_ID_CACHE_REGION, naturalIdTtl);
+        regions.forEach((region, regionTtl) -> {
+            Cache<Object, Object> cache = cacheManager.createCache(region, regionConfiguration(maximumSize, regionTtl));
+            meterRegistry.ifAvailable(registry -> JCacheMetrics.monitor(registry, cache));
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        // Hibernate 가 캐시 항목(CacheEntry)을 직접 분해/조립하므로 값 복사(직렬화) 생략
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
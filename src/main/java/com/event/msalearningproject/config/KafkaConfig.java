@@ -0,0 +1,98 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.dto.MessageEvent;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@EnableKafka
+@Configuration
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "kafka")
+public class KafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${member.message.kafka.topic:member-message}")
+    private String topic;
+
+    // 파티션 수가 consumer 수평 확장의 상한
+    @Value("${member.message.kafka.partitions:12}")
+    private int partitions;
+
+    @Value("${member.message.kafka.concurrency:3}")
+    private int concurrency;
+
+    @Value("${member.message.kafka.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public NewTopic memberMessageTopic() {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .build();
+    }
+
+    @Bean
+    public ProducerFactory<String, MessageEvent> messageEventProducerFactory() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        return new DefaultKafkaProducerFactory<>(properties, new StringSerializer(), new JsonSerializer<>());
+    }
+
+    @Bean
+    public KafkaTemplate<String, MessageEvent> messageEventKafkaTemplate() {
+        return new KafkaTemplate<>(messageEventProducerFactory());
+    }
+
+    @Bean
+    public ConsumerFactory<String, MessageEvent> messageEventConsumerFactory() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return new DefaultKafkaConsumerFactory<>(properties,
+                new StringDeserializer(), new JsonDeserializer<>(MessageEvent.class, false));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, MessageEvent> messageEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, MessageEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(messageEventConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        if (virtualThreads) {
+            // 직접 만든 factory 에는 Boot 의 virtual thread 설정이 적용되지 않으므로 consumer 스레드를 직접 지정
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("member-message-kafka-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,38 @@
+package com.event.msalearningproject.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 작업을 제출한 스레드의 MDC(requestId 등)를 실행 스레드로 복사하고 실행 후 원래 값으로 되돌림
+ * Boot 가 만드는 applicationTaskExecutor(spring.task.execution.mode=force, MVC async)에도 적용되며
+ * 직접 만드는 executor(passwordHashingExecutor, messageRetryExecutor)는 setTaskDecorator 로 지정
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                runnable.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.message.amqp")
+public class MessageAmqpProperties {
+
+    private String exchange = "member.message";
+    private String queuePrefix = "member.message.";
+    private String deadLetterExchange = "member.message.dlx";
+    private String deadLetterQueue = "member.message.dlq";
+
+    // dead-letter 로 보내기 전 최대 시도 횟수
+    private int maxAttempts = 3;
+    private long initialBackoffMs = 500;
+
+    // 발행한 메시지의 publisher confirm 을 기다리는 최대 시간
+    private long confirmTimeoutMs = 10000;
+
+    // MessageType 별 consumer 설정 (설정이 없으면 기본값 사용)
+    private Map<MessageType, Channel> channels = new HashMap<>();
+
+    public Channel channel(MessageType messageType) {
+        return channels.getOrDefault(messageType, new Channel());
+    }
+
+    public String queueName(MessageType messageType) {
+        return queuePrefix + messageType.name().toLowerCase();
+    }
+
+    @Getter
+    @Setter
+    public static class Channel {
+        private int concurrency = 1;
+        private int maxConcurrency = 1;
+        private int prefetch = 50;
+    }
+}
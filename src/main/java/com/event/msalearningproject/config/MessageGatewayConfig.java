@@ -0,0 +1,10 @@
+package com.event.msalearningproject.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// MessageType 별 발송 adapter(WebClientMessageSender 구현체)는 member.message.gateway.enabled=true 일 때 등록
+@Configuration
+@EnableConfigurationProperties(MessageGatewayProperties.class)
+public class MessageGatewayConfig {
+}
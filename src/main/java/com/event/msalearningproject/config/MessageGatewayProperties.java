@@ -0,0 +1,61 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.message.gateway")
+public class MessageGatewayProperties {
+
+    // false: 외부 게이트웨이를 호출하지 않고 로그만 남김
+    private boolean enabled = false;
+
+    // 한 묶음(outbox 배치, Kafka poll)을 발송할 때 동시에 진행하는 최대 건수 (MessageType 별로 provider 의 maxInFlight 이하로 제한)
+    private int maxConcurrency = 256;
+
+    // 캠페인 발송 시 동시에 진행하는 다건 요청 수 (게이트웨이의 max-in-flight 이하)
+    private int batchConcurrency = 4;
+
+    // MessageType 별 게이트웨이 설정 (설정이 없으면 기본값 사용)
+    private Map<MessageType, Provider> providers = new HashMap<>();
+
+    public Provider provider(MessageType messageType) {
+        return providers.getOrDefault(messageType, new Provider());
+    }
+
+    @Getter
+    @Setter
+    public static class Provider {
+        private String baseUrl = "http://localhost:8089";
+        private String path = "/send";
+
+        // 다건 발송 API (batchSize 가 1 이면 건별 발송)
+        private String batchPath = "/send/batch";
+        private int batchSize = 1;
+
+        // 커넥션 풀 - 최대 커넥션 수, 커넥션 대기 가능 건수와 대기 시간
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private long pendingAcquireTimeoutMs = 1000;
+        private long maxIdleTimeMs = 30000;
+
+        private int connectTimeoutMs = 1000;
+        private long responseTimeoutMs = 3000;
+
+        // 커넥션 대기를 포함한 한 건의 전체 제한 시간
+        private long timeoutMs = 5000;
+
+        // bulkhead - 동시에 진행 중인 요청 수 상한 (초과 시 즉시 실패)
+        private int maxInFlight = 100;
+
+        // 연속 failureThreshold 회 실패하면 openMs 동안 호출 차단 후 한 건으로 복구 여부 확인
+        private int failureThreshold = 10;
+        private long openMs = 30000;
+    }
+}
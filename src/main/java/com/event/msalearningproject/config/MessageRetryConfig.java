@@ -0,0 +1,41 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(MessageRetryProperties.class)
+public class MessageRetryConfig {
+
+    // MessageType 별로 하나씩 동시에 재발송 (한 채널의 지연이 다른 채널 재시도를 막지 않도록)
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor messageRetryExecutor(MdcTaskDecorator mdcTaskDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(MessageType.values().length);
+        executor.setMaxPoolSize(MessageType.values().length);
+        executor.setThreadNamePrefix("message-retry-");
+        executor.setTaskDecorator(mdcTaskDecorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // virtual thread 모드 - 발송 대기(I/O) 중 carrier thread 를 점유하지 않음, 동시 실행 수는 MessageType 수로 제한
+    @Bean(name = "messageRetryExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualMessageRetryExecutor(MdcTaskDecorator mdcTaskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("message-retry-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(mdcTaskDecorator);
+        executor.setConcurrencyLimit(MessageType.values().length);
+        executor.setTaskTerminationTimeout(30000);
+        return executor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.event.msalearningproject.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.message.retry")
+public class MessageRetryProperties {
+
+    private boolean enabled = true;
+
+    // 한 번에 선점하는 최대 이력 수
+    private int pageSize = 200;
+
+    // 최초 발송을 포함한 최대 시도 횟수 (초과 시 더 이상 재시도하지 않음)
+    private int maxAttempts = 5;
+    private long initialBackoffMs = 1000;
+    private long maxBackoffMs = 600000;
+
+    // 선점 후 이 시간 안에 결과가 반영되지 않으면(노드 장애 등) 다른 노드가 다시 가져감
+    private long claimTimeoutMs = 300000;
+
+    /**
+     * attempts 회 실패한 이력의 다음 재시도 시각 (initialBackoff * 2^(attempts-1), 최대 maxBackoff)
+     *
+     * @return 최대 시도 횟수에 도달했으면 null
+     */
+    public LocalDateTime nextAttemptAt(int attempts, LocalDateTime now) {
+        if (attempts >= maxAttempts) {
+            return null;
+        }
+        long backoffMs = initialBackoffMs << Math.min(Math.max(attempts - 1, 0), 30);
+        return now.plusNanos(Math.min(backoffMs, maxBackoffMs) * 1_000_000);
+    }
+}
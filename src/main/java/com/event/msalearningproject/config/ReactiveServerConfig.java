@@ -0,0 +1,95 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.member.controller.ReactiveMemberHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+/**
+ * reactive 회원 API (/msa/reactive/v1/members) 전용 Netty 서버
+ * 기존 MVC API 는 servlet(Tomcat) 스택에 그대로 두고, 별도 포트에서 이벤트 루프로 처리
+ */
+@Configuration
+@ConditionalOnProperty(name = "member.reactive.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveMemberRoutes(ReactiveMemberHandler handler) {
+        return RouterFunctions.route()
+                .path("/msa/reactive/v1/members", builder -> builder
+                        .GET("", accept(MediaType.APPLICATION_NDJSON), handler::streamActiveMembers)
+                        .POST("", handler::join)
+                        .GET("/{userId}", handler::findByUserId)
+                        .DELETE("/{userId}", handler::exit))
+                .build();
+    }
+
+    @Bean
+    public ReactiveMemberServer reactiveMemberServer(RouterFunction<ServerResponse> reactiveMemberRoutes,
+                                                     ObjectMapper objectMapper,
+                                                     @Value("${member.reactive.port:8081}") int port) {
+        // MVC 와 같은 ObjectMapper(LocalDateTime 직렬화 등) 사용
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+
+        HttpServer httpServer = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(reactiveMemberRoutes, strategies)));
+        return new ReactiveMemberServer(httpServer);
+    }
+
+    @Slf4j
+    public static class ReactiveMemberServer implements SmartLifecycle {
+
+        private final HttpServer httpServer;
+        private volatile DisposableServer server;
+
+        ReactiveMemberServer(HttpServer httpServer) {
+            this.httpServer = httpServer;
+        }
+
+        @Override
+        public void start() {
+            server = httpServer.bindNow();
+            log.info("reactive 회원 API 서버 시작: port={}", server.port());
+        }
+
+        @Override
+        public void stop() {
+            if (server != null) {
+                server.disposeNow();
+                server = null;
+            }
+        }
+
+        @Override
+        public boolean isRunning() {
+            return server != null;
+        }
+
+        // port 0 으로 띄운 경우 실제 할당된 포트
+        public int getPort() {
+            return server.port();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.event.msalearningproject.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 id(X-Request-Id) 를 받거나 새로 만들어 MDC(requestId) 와 응답 헤더에 설정
+ * outbox / Kafka·AMQP 헤더 / 발송 이력까지 같은 id 로 이어짐 (MessageService, MdcTaskDecorator)
+ * 처리 시간이 slow-threshold-ms 를 넘으면 RequestTiming 의 구간별 시간을 WARN 으로 남김
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    // 로그 / 헤더에 그대로 남기므로 허용 문자와 길이(message_history.request_id 컬럼 64)를 제한
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
+
+    private final long slowThresholdMs;
+
+    public RequestIdFilter(@Value("${member.request.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        RequestTiming.start();
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+            if (elapsedMs >= slowThresholdMs) {
+                log.warn("느린 요청: method={}, uri={}, status={}, elapsedMs={}, breakdown=[{}]",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMs,
+                        RequestTiming.summary());
+            }
+            RequestTiming.clear();
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
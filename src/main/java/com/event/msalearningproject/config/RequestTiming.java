@@ -0,0 +1,58 @@
+package com.event.msalearningproject.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 스레드의 구간별 처리 시간 (RequestIdFilter 가 시작/정리하고 느린 요청일 때만 출력)
+ * 요청 밖(스케줄러, listener, 테스트)에서는 시간을 재지 않고 작업만 실행
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<Map<String, Long>> PHASES = new ThreadLocal<>();
+
+    private RequestTiming() {
+    }
+
+    static void start() {
+        PHASES.set(new LinkedHashMap<>());
+    }
+
+    static void clear() {
+        PHASES.remove();
+    }
+
+    public static <T> T record(String phase, Supplier<T> action) {
+        Map<String, Long> phases = PHASES.get();
+        if (phases == null) {
+            return action.get();
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            phases.merge(phase, System.nanoTime() - startedAt, Long::sum);
+        }
+    }
+
+    public static void record(String phase, Runnable action) {
+        record(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 예: validate=3ms, hash=85ms, enqueue=1ms, db=12ms
+    static String summary() {
+        Map<String, Long> phases = PHASES.get();
+        if (phases == null) {
+            return "";
+        }
+        return phases.entrySet().stream()
+                .map(phase -> phase.getKey() + "=" + phase.getValue() / 1_000_000 + "ms")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -1,20 +1,42 @@
 package com.event.msalearningproject.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${member.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // 해싱 전용 스레드 풀 (큐가 가득 차면 AbortPolicy 로 즉시 거절)
+    // BCrypt 는 CPU 작업이므로 virtual thread 모드에서도 코어 수 기준의 platform thread 풀을 유지
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${member.security.hashing.pool-size:4}") int poolSize,
+            @Value("${member.security.hashing.queue-capacity:64}") int queueCapacity,
+            MdcTaskDecorator mdcTaskDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setTaskDecorator(mdcTaskDecorator);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
     }
 
     @Bean
@@ -15,7 +15,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 public class SampleEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sample_test_seq_generator")
+    @SequenceGenerator(name = "sample_test_seq_generator", sequenceName = "sample_test_seq", allocationSize = 50)
     private Long id;
 
     private String content;
@@ -1,22 +1,38 @@
 package com.event.msalearningproject.member.controller;
 
+import com.event.msalearningproject.member.dto.MemberAvailabilityResponse;
+import com.event.msalearningproject.member.dto.MemberBulkExitRequest;
+import com.event.msalearningproject.member.dto.MemberBulkExitResponse;
 import com.event.msalearningproject.member.dto.MemberCommonResponse;
+import com.event.msalearningproject.member.dto.MemberImportResponse;
 import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberPageResponse;
 import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.dto.MessageCampaignRequest;
+import com.event.msalearningproject.member.dto.MessageCampaignResponse;
 import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.service.IdempotencyCache;
+import com.event.msalearningproject.member.service.MemberImportService;
 import com.event.msalearningproject.member.service.MemberService;
+import com.event.msalearningproject.member.service.MessageCampaignService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import com.event.msalearningproject.member.exception.MemberErrorCode;
 
@@ -28,10 +44,35 @@ import com.event.msalearningproject.member.exception.MemberErrorCode;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MessageCampaignService messageCampaignService;
+    private final MemberImportService memberImportService;
+    private final IdempotencyCache idempotencyCache;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    @Operation(summary = "회원가입", description = "새로운 회원을 등록합니다.")
-    public ResponseEntity<MemberCommonResponse<MemberResponse>> join(@Valid @RequestBody MemberJoinRequest request) {
+    @Operation(summary = "회원가입", description = "새로운 회원을 등록합니다. "
+            + "Idempotency-Key 를 보내면 같은 키의 재시도에는 처음 응답을 그대로 돌려줍니다.")
+    public ResponseEntity<MemberCommonResponse<MemberResponse>> join(
+            @Valid @RequestBody MemberJoinRequest request,
+            @Parameter(description = "재시도 간에 같은 값을 사용하는 요청 식별자 (UUID 권장)")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return joinMember(request);
+        }
+
+        try {
+            // 본문 JSON 의 SHA-256 으로 같은 키의 다른 요청을 구분
+            String fingerprint = IdempotencyCache.fingerprint(objectMapper.writeValueAsBytes(request));
+            return idempotencyCache.execute(idempotencyKey, fingerprint, () -> joinMember(request));
+        } catch (MemberException e) {
+            return handleBusinessException(e, request.getUserId(), "회원가입");
+        } catch (Exception e) {
+            return handleSystemException(e, request.getUserId(), "회원가입");
+        }
+    }
+
+    private ResponseEntity<MemberCommonResponse<MemberResponse>> joinMember(MemberJoinRequest request) {
         try {
             log.info("회원가입 요청: userId={}, name={}, email={}", 
                     request.getUserId(), request.getName(), request.getEmail());
@@ -104,18 +145,163 @@ public class MemberController {
         }
     }
 
+    @PostMapping("/bulk-exit")
+    @Operation(summary = "회원 일괄 탈퇴", description = "여러 회원을 한 번에 탈퇴 처리합니다. 존재하지 않거나 이미 탈퇴한 회원은 건너뜁니다.")
+    public ResponseEntity<MemberCommonResponse<MemberBulkExitResponse>> bulkExit(
+            @Valid @RequestBody MemberBulkExitRequest request) {
+
+        try {
+            log.info("회원 일괄 탈퇴 요청: count={}", request.getUserIds().size());
+
+            MemberBulkExitResponse response = memberService.bulkExit(request.getUserIds());
+
+            return ResponseEntity.ok(MemberCommonResponse.success(response));
+
+        } catch (MemberException e) {
+            return handleBusinessException(e, "BULK", "회원 일괄 탈퇴");
+        } catch (Exception e) {
+            return handleSystemException(e, "BULK", "회원 일괄 탈퇴");
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "회원 일괄 가입", description = "요청 본문의 CSV(첫 줄 헤더) 또는 NDJSON 을 스트리밍으로 읽어 일괄 가입합니다. "
+            + "검증을 통과한 행을 적재만 하고 202 로 응답하며, 가입 처리는 백그라운드에서 진행됩니다 "
+            + "(진행 상황과 실패한 행의 줄 번호 / 오류 코드는 Location 의 작업 조회). 가입 메시지는 outbox 를 통해 배치로 발송됩니다.")
+    public ResponseEntity<MemberCommonResponse<MemberImportResponse>> importMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        try {
+            log.info("회원 일괄 가입 요청: contentType={}", contentType);
+
+            MemberImportResponse response = memberImportService.submit(MediaType.parseMediaType(contentType), body);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/msa/v1/members/import/" + response.getId())
+                    .body(MemberCommonResponse.success(response));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(MemberCommonResponse.error(e.getMessage(), "VALIDATION_ERROR"));
+        } catch (MemberException e) {
+            return handleBusinessException(e, "IMPORT", "회원 일괄 가입");
+        } catch (Exception e) {
+            return handleSystemException(e, "IMPORT", "회원 일괄 가입");
+        }
+    }
+
+    @GetMapping("/import/{importId}")
+    @Operation(summary = "회원 일괄 가입 진행 조회", description = "접수한 일괄 가입 작업의 상태와 처리 건수, 실패한 행을 조회합니다.")
+    public ResponseEntity<MemberCommonResponse<MemberImportResponse>> findImport(
+            @Parameter(description = "일괄 가입 작업 ID", example = "1")
+            @PathVariable Long importId) {
+
+        try {
+            return ResponseEntity.ok(MemberCommonResponse.success(memberImportService.find(importId)));
+        } catch (MemberException e) {
+            return handleBusinessException(e, "IMPORT", "회원 일괄 가입 조회");
+        } catch (Exception e) {
+            return handleSystemException(e, "IMPORT", "회원 일괄 가입 조회");
+        }
+    }
+
+    @PostMapping("/campaigns")
+    @Operation(summary = "캠페인 메시지 발송", description = "선택한 메시지 타입의 활성 회원 전체에 같은 메시지를 다건 발송합니다. "
+            + "캠페인을 접수만 하고 202 로 응답하며, 발송은 백그라운드에서 진행됩니다 (진행 상황은 Location 의 캠페인 조회). "
+            + "같은 Idempotency-Key(없으면 같은 메시지 타입과 내용)로 다시 요청하면 처음 접수한 캠페인을 돌려줍니다.")
+    public ResponseEntity<MemberCommonResponse<MessageCampaignResponse>> sendCampaign(
+            @Valid @RequestBody MessageCampaignRequest request,
+            @Parameter(description = "재시도 간에 같은 값을 사용하는 요청 식별자 (UUID 권장, 100자 이하)")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+
+        try {
+            log.info("캠페인 발송 요청: messageType={}", request.getMessageType());
+
+            MessageCampaignResponse response = messageCampaignService.submit(request, idempotencyKey);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/msa/v1/members/campaigns/" + response.getId())
+                    .body(MemberCommonResponse.success(response));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(MemberCommonResponse.error(e.getMessage(), "VALIDATION_ERROR"));
+        } catch (MemberException e) {
+            return handleBusinessException(e, "CAMPAIGN", "캠페인 발송");
+        } catch (Exception e) {
+            return handleSystemException(e, "CAMPAIGN", "캠페인 발송");
+        }
+    }
+
+    @GetMapping("/campaigns/{campaignId}")
+    @Operation(summary = "캠페인 발송 진행 조회", description = "접수한 캠페인의 상태와 발송 건수를 조회합니다.")
+    public ResponseEntity<MemberCommonResponse<MessageCampaignResponse>> findCampaign(
+            @Parameter(description = "캠페인 ID", example = "1")
+            @PathVariable Long campaignId) {
+
+        try {
+            return ResponseEntity.ok(MemberCommonResponse.success(messageCampaignService.find(campaignId)));
+        } catch (MemberException e) {
+            return handleBusinessException(e, "CAMPAIGN", "캠페인 조회");
+        } catch (Exception e) {
+            return handleSystemException(e, "CAMPAIGN", "캠페인 조회");
+        }
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "가입 정보 사용 가능 여부 확인", description = "사용자 ID / 이메일 / 연락처가 가입에 사용 가능한지 확인합니다. 전달한 항목만 응답합니다.")
+    public ResponseEntity<MemberCommonResponse<MemberAvailabilityResponse>> checkAvailability(
+            @Parameter(description = "사용자 ID", example = "testuser")
+            @RequestParam(required = false) String userId,
+            @Parameter(description = "이메일", example = "testuser@naver.com")
+            @RequestParam(required = false) String email,
+            @Parameter(description = "연락처", example = "010-1234-5678")
+            @RequestParam(required = false) String contact) {
+
+        try {
+            MemberAvailabilityResponse response = memberService.checkAvailability(userId, email, contact);
+            return ResponseEntity.ok(MemberCommonResponse.success(response));
+        } catch (Exception e) {
+            return handleSystemException(e, userId, "가입 정보 사용 가능 여부 확인");
+        }
+    }
+
     @GetMapping
-    @Operation(summary = "활성 회원 목록 조회", description = "활성 상태인 모든 회원 목록을 조회합니다.")
-    public ResponseEntity<MemberCommonResponse<List<MemberResponse>>> getAllActiveMembers() {
+    @Operation(summary = "활성 회원 목록 조회", description = "활성 상태인 회원 목록을 id 커서 기반으로 조회합니다.")
+    public ResponseEntity<MemberCommonResponse<MemberPageResponse>> getActiveMembers(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int size) {
         
         try {
-            List<MemberResponse> members = memberService.getAllActiveMembers();
-            return ResponseEntity.ok(MemberCommonResponse.success(members));
+            MemberPageResponse page = memberService.getActiveMembers(cursor, size);
+            return ResponseEntity.ok(MemberCommonResponse.success(page));
         } catch (Exception e) {
             return handleSystemException(e, "ALL", "활성 회원 목록 조회");
         }
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "활성 회원 전체 내보내기", description = "활성 회원 전체를 NDJSON 으로 스트리밍합니다.")
+    public ResponseEntity<StreamingResponseBody> exportActiveMembers() {
+        log.info("활성 회원 내보내기 요청");
+
+        StreamingResponseBody body = outputStream -> memberService.exportActiveMembers(member -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(member));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     
     /**
      * 비즈니스 예외 처리 (MemberException)
@@ -146,12 +332,15 @@ public class MemberController {
     /**
      * 에러 코드에 따른 HTTP Status 결정
      */
-    private HttpStatus determineHttpStatus(MemberErrorCode errorCode) {
+    static HttpStatus determineHttpStatus(MemberErrorCode errorCode) {
         return switch (errorCode) {
             case DUPLICATE_USER_ID, DUPLICATE_EMAIL, DUPLICATE_CONTACT -> HttpStatus.CONFLICT; // 409
-            case MEMBER_NOT_FOUND -> HttpStatus.NOT_FOUND; // 404
+            case REQUEST_IN_PROGRESS -> HttpStatus.CONFLICT; // 409
+            case IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY; // 422
+            case MEMBER_NOT_FOUND, CAMPAIGN_NOT_FOUND, IMPORT_NOT_FOUND -> HttpStatus.NOT_FOUND; // 404
             case ALREADY_EXITED -> HttpStatus.BAD_REQUEST; // 400
             case DATABASE_ERROR, INTERNAL_SERVER_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR; // 500
+            case SERVICE_BUSY -> HttpStatus.SERVICE_UNAVAILABLE; // 503
             default -> HttpStatus.BAD_REQUEST; // 400
         };
     }
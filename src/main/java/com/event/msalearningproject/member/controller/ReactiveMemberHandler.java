@@ -0,0 +1,82 @@
+package com.event.msalearningproject.member.controller;
+
+import com.event.msalearningproject.member.dto.MemberCommonResponse;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.service.ReactiveMemberService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * 회원 API 의 reactive 버전 (MemberController 와 같은 요청/응답 형식, /msa/reactive/v1/members)
+ * 라우팅은 ReactiveServerConfig 에서 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveMemberHandler {
+
+    private final ReactiveMemberService reactiveMemberService;
+    private final Validator validator;
+
+    public Mono<ServerResponse> join(ServerRequest request) {
+        return request.bodyToMono(MemberJoinRequest.class)
+                .flatMap(joinRequest -> {
+                    Set<ConstraintViolation<MemberJoinRequest>> violations = validator.validate(joinRequest);
+                    if (!violations.isEmpty()) {
+                        ConstraintViolation<MemberJoinRequest> violation = violations.iterator().next();
+                        return ServerResponse.badRequest().bodyValue(MemberCommonResponse.error(
+                                violation.getPropertyPath() + ": " + violation.getMessage(), "VALIDATION_ERROR"));
+                    }
+                    return reactiveMemberService.join(joinRequest)
+                            .flatMap(member -> ServerResponse.status(HttpStatus.CREATED)
+                                    .bodyValue(MemberCommonResponse.success(member)))
+                            .onErrorResume(e -> handleException(e, joinRequest.getUserId(), "회원가입"));
+                });
+    }
+
+    public Mono<ServerResponse> findByUserId(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        return reactiveMemberService.findByUserId(userId)
+                .flatMap(member -> ServerResponse.ok().bodyValue(MemberCommonResponse.success(member)))
+                .onErrorResume(e -> handleException(e, userId, "회원 조회"));
+    }
+
+    public Mono<ServerResponse> exit(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        return reactiveMemberService.exit(userId)
+                .then(ServerResponse.ok().bodyValue(MemberCommonResponse.success(null)))
+                .onErrorResume(e -> handleException(e, userId, "회원탈퇴"));
+    }
+
+    public Mono<ServerResponse> streamActiveMembers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reactiveMemberService.streamActiveMembers(), MemberResponse.class);
+    }
+
+    private Mono<ServerResponse> handleException(Throwable e, String userId, String operation) {
+        if (e instanceof MemberException memberException) {
+            log.warn("비즈니스 예외 발생: operation={}, userId={}, errorCode={}, message={}",
+                    operation, userId, memberException.getErrorCode().getCode(), e.getMessage());
+            return ServerResponse.status(MemberController.determineHttpStatus(memberException.getErrorCode()))
+                    .bodyValue(MemberCommonResponse.error(e.getMessage(), memberException.getErrorCode().getCode()));
+        }
+
+        log.error("시스템 예외 발생: operation={}, userId={}, exception={}",
+                operation, userId, e.getClass().getSimpleName(), e);
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .bodyValue(MemberCommonResponse.error("시스템 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
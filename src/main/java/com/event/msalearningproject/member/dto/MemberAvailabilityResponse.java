@@ -0,0 +1,19 @@
+package com.event.msalearningproject.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+// 요청하지 않은 항목은 null (응답에서 제외)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MemberAvailabilityResponse {
+
+    private Boolean userIdAvailable;
+
+    private Boolean emailAvailable;
+
+    private Boolean contactAvailable;
+}
@@ -0,0 +1,18 @@
+package com.event.msalearningproject.member.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberBulkExitRequest {
+
+    @NotEmpty(message = "탈퇴할 사용자 ID 목록은 필수입니다.")
+    @Size(max = 100000, message = "한 번에 최대 100000명까지 탈퇴 처리할 수 있습니다.")
+    private List<String> userIds;
+}
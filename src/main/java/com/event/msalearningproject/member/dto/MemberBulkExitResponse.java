@@ -0,0 +1,20 @@
+package com.event.msalearningproject.member.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberBulkExitResponse {
+
+    // 중복 제거 후 요청된 사용자 수
+    private int requested;
+
+    private int exited;
+
+    // 존재하지 않거나 이미 탈퇴한 사용자 수
+    private int skipped;
+
+    private int deletedHistories;
+}
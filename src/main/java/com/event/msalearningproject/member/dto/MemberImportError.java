@@ -0,0 +1,20 @@
+package com.event.msalearningproject.member.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportError {
+
+    // 파일의 줄 번호 (1부터, CSV 는 헤더 포함)
+    private long line;
+
+    private String userId;
+
+    // MemberErrorCode 의 code 또는 VALIDATION_ERROR
+    private String errorCode;
+
+    private String message;
+}
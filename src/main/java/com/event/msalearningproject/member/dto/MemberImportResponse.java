@@ -0,0 +1,39 @@
+package com.event.msalearningproject.member.dto;
+
+import com.event.msalearningproject.member.repository.entity.MemberImportStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportResponse {
+
+    // 진행 상황 조회 (GET /import/{id}) 에 사용
+    private Long id;
+
+    private MemberImportStatus status;
+
+    // 빈 줄과 CSV 헤더를 제외한 행 수
+    private int total;
+
+    // 지금까지 가입 / 실패 처리한 행 수 (처리 중이면 진행 중인 값)
+    private int imported;
+
+    private int failed;
+
+    // 실패한 행 (줄 번호 순, 최대 member.import.max-reported-errors 건)
+    @Builder.Default
+    private List<MemberImportError> errors = new ArrayList<>();
+
+    // failed 가 errors 보다 많으면 true
+    private boolean errorsTruncated;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,19 @@
+package com.event.msalearningproject.member.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberPageResponse {
+
+    private List<MemberResponse> members;
+
+    // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
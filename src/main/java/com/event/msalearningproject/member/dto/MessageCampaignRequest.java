@@ -0,0 +1,22 @@
+package com.event.msalearningproject.member.dto;
+
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageCampaignRequest {
+
+    // 이 MessageType 을 선택한 활성 회원 전체가 대상
+    @NotNull(message = "메시지 타입은 필수입니다.")
+    private MessageType messageType;
+
+    @NotBlank(message = "메시지 내용은 필수입니다.")
+    @Size(max = 500, message = "메시지 내용은 500자 이하여야 합니다.")
+    private String content;
+}
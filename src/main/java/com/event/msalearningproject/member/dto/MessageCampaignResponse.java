@@ -0,0 +1,47 @@
+package com.event.msalearningproject.member.dto;
+
+import com.event.msalearningproject.member.repository.entity.CampaignStatus;
+import com.event.msalearningproject.member.repository.entity.MessageCampaignEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageCampaignResponse {
+
+    // 진행 상황 조회 (GET /campaigns/{id}) 에 사용
+    private Long id;
+
+    private MessageType messageType;
+
+    private CampaignStatus status;
+
+    // 지금까지 발송한 대상 수 (발송 중이면 진행 중인 값)
+    private int targeted;
+
+    private int sent;
+
+    // 발송 실패 수 (발송 이력에 남아 MessageRetryService 가 건별로 재시도)
+    private int failed;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    public static MessageCampaignResponse from(MessageCampaignEntity campaign) {
+        return MessageCampaignResponse.builder()
+                .id(campaign.getId())
+                .messageType(campaign.getMessageType())
+                .status(campaign.getStatus())
+                .targeted(campaign.getTargeted())
+                .sent(campaign.getSent())
+                .failed(campaign.getFailed())
+                .createdAt(campaign.getCreatedAt())
+                .completedAt(campaign.getCompletedAt())
+                .build();
+    }
+}
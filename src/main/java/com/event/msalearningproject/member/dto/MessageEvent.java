@@ -0,0 +1,34 @@
+package com.event.msalearningproject.member.dto;
+
+import com.event.msalearningproject.member.repository.entity.MessageOutboxEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageEvent {
+
+    private Long memberId;
+    private String userId;
+    private MessageType messageType;
+    private String recipient;
+    private String content;
+    // 발송을 일으킨 요청의 id (X-Request-Id) - 비동기 발송 / 이력까지 추적
+    private String requestId;
+
+    public static MessageEvent from(MessageOutboxEntity outbox) {
+        return MessageEvent.builder()
+                .memberId(outbox.getMember().getId())
+                .userId(outbox.getUserId())
+                .messageType(outbox.getMessageType())
+                .recipient(outbox.getRecipient())
+                .content(outbox.getContent())
+                .requestId(outbox.getRequestId())
+                .build();
+    }
+}
@@ -25,7 +25,18 @@ public enum MemberErrorCode {
     // 시스템 에러
     DATABASE_ERROR("M010", "데이터베이스 오류가 발생했습니다."),
     MESSAGE_SEND_ERROR("M011", "메시지 전송 중 오류가 발생했습니다."),
-    INTERNAL_SERVER_ERROR("M012", "내부 서버 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR("M012", "내부 서버 오류가 발생했습니다."),
+    SERVICE_BUSY("M013", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 멱등성 키(Idempotency-Key) 관련 에러
+    IDEMPOTENCY_KEY_REUSED("M014", "다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+    REQUEST_IN_PROGRESS("M015", "같은 Idempotency-Key 의 요청이 아직 처리 중입니다."),
+
+    // 캠페인 발송 관련 에러
+    CAMPAIGN_NOT_FOUND("M016", "존재하지 않는 캠페인입니다."),
+
+    // 일괄 가입 관련 에러
+    IMPORT_NOT_FOUND("M017", "존재하지 않는 일괄 가입 작업입니다.");
     
     private final String code;
     private final String message;
@@ -0,0 +1,13 @@
+package com.event.msalearningproject.member.exception;
+
+// 외부 게이트웨이 발송 실패 (발송 이력에 오류 메시지로 남고 MessageRetryService 가 재시도)
+public class MessageSendException extends RuntimeException {
+
+    public MessageSendException(String message) {
+        super(message);
+    }
+
+    public MessageSendException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package com.event.msalearningproject.member.mapper;
 import com.event.msalearningproject.member.dto.MemberJoinRequest;
 import com.event.msalearningproject.member.dto.MemberResponse;
 import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MemberRecord;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -33,4 +34,16 @@ public interface MemberMapper {
     @Mapping(target = "address", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     List<MemberResponse> toActiveResponseList(List<MemberEntity> entities);
+
+    // R2DBC Record → DTO (reactive API)
+    @Mapping(target = "address", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    MemberResponse toResponse(MemberRecord record);
+
+    // DTO → R2DBC Record (reactive API 회원가입용)
+    @Mapping(target = "id", ignore = true)  // 시퀀스에서 할당
+    @Mapping(target = "joinDate", expression = "java(java.time.LocalDateTime.now())")
+    @Mapping(target = "exitDate", ignore = true)
+    @Mapping(target = "active", constant = "true")
+    MemberRecord toRecord(MemberJoinRequest request);
 }
@@ -0,0 +1,15 @@
+package com.event.msalearningproject.member.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 캠페인 발송 대상 (발송과 이력 저장에 필요한 컬럼만)
+@Getter
+@AllArgsConstructor
+public class CampaignRecipient {
+
+    private final Long id;
+    private final String userId;
+    private final String contact;
+    private final String email;
+}
@@ -0,0 +1,11 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+
+import java.util.List;
+
+public interface MemberBulkRepository {
+
+    // hibernate.jdbc.batch_size 단위로 flush 하여 회원을 JDBC batch insert 로 저장 (일괄 가입)
+    List<MemberEntity> insertAll(List<MemberEntity> members);
+}
@@ -0,0 +1,35 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class MemberBulkRepositoryImpl implements MemberBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public MemberBulkRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public List<MemberEntity> insertAll(List<MemberEntity> members) {
+        for (int from = 0; from < members.size(); from += batchSize) {
+            List<MemberEntity> chunk = members.subList(from, Math.min(from + batchSize, members.size()));
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+
+            // 저장한 회원만 영속성 컨텍스트에서 분리 (이후 outbox 는 id 로만 참조)
+            chunk.forEach(entityManager::detach);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,26 @@
+package com.event.msalearningproject.member.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원가입 중복 검사 결과 (userId / email / contact 별 일치 건수)
+@Getter
+@AllArgsConstructor
+public class MemberDuplicateProbe {
+
+    private final Long userIdCount;
+    private final Long emailCount;
+    private final Long contactCount;
+
+    public boolean isUserIdTaken() {
+        return userIdCount != null && userIdCount > 0;
+    }
+
+    public boolean isEmailTaken() {
+        return emailCount != null && emailCount > 0;
+    }
+
+    public boolean isContactTaken() {
+        return contactCount != null && contactCount > 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.event.msalearningproject.member.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 가입 중복 검사 대상 식별자 (Bloom filter 적재용)
+@Getter
+@AllArgsConstructor
+public class MemberIdentifiers {
+
+    private final String userId;
+    private final String email;
+    private final String contact;
+}
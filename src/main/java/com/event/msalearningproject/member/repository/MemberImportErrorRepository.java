@@ -0,0 +1,24 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberImportErrorEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface MemberImportErrorRepository extends JpaRepository<MemberImportErrorEntity, Long> {
+
+    @Transactional(readOnly = true)
+    List<MemberImportErrorEntity> findByJobIdOrderByLine(Long jobId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MemberImportErrorEntity e where e.jobId = :jobId")
+    int deleteAllByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,63 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberImportJobEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemberImportJobRepository extends JpaRepository<MemberImportJobEntity, Long> {
+
+    // 처리할 작업 선점 - 적재가 끝났고 선점 기한이 없거나 지난 작업을 잠금 (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select j from MemberImportJobEntity j "
+            + "where j.status in (com.event.msalearningproject.member.repository.entity.MemberImportStatus.PENDING, "
+            + "com.event.msalearningproject.member.repository.entity.MemberImportStatus.RUNNING) "
+            + "and (j.leaseUntil is null or j.leaseUntil <= :now) order by j.id")
+    List<MemberImportJobEntity> findRunnableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 적재 완료 - 행 수와 검증 실패 수를 기록하고 처리 대상으로 전환
+    @Transactional
+    @Modifying
+    @Query("update MemberImportJobEntity j "
+            + "set j.status = com.event.msalearningproject.member.repository.entity.MemberImportStatus.PENDING, "
+            + "j.total = :total, j.failed = :failed "
+            + "where j.id = :id")
+    int accept(@Param("id") Long id,
+               @Param("total") int total,
+               @Param("failed") int failed);
+
+    // 청크 처리 결과 반영과 선점 연장 - 선점을 다른 노드에 빼앗겼으면 0 을 반환
+    @Transactional
+    @Modifying
+    @Query("update MemberImportJobEntity j set j.imported = j.imported + :imported, j.failed = j.failed + :failed, "
+            + "j.leaseUntil = :leaseUntil "
+            + "where j.id = :id and j.leaseToken = :leaseToken")
+    int recordProgress(@Param("id") Long id,
+                       @Param("leaseToken") String leaseToken,
+                       @Param("imported") int imported,
+                       @Param("failed") int failed,
+                       @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update MemberImportJobEntity j "
+            + "set j.status = com.event.msalearningproject.member.repository.entity.MemberImportStatus.COMPLETED, "
+            + "j.completedAt = :completedAt, j.leaseUntil = null, j.leaseToken = null "
+            + "where j.id = :id and j.leaseToken = :leaseToken")
+    int complete(@Param("id") Long id,
+                 @Param("leaseToken") String leaseToken,
+                 @Param("completedAt") LocalDateTime completedAt);
+}
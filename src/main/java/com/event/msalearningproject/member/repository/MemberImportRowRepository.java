@@ -0,0 +1,25 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberImportRowEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface MemberImportRowRepository extends JpaRepository<MemberImportRowEntity, Long> {
+
+    // 남은 행을 id 순으로 조회 - readOnly 를 지정하지 않아 쓰기 풀(primary)에서 읽음
+    // (replica 복제 지연으로 남은 행을 놓쳐 작업을 일찍 완료 처리하지 않도록)
+    List<MemberImportRowEntity> findByJobIdOrderById(Long jobId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MemberImportRowEntity r where r.jobId = :jobId")
+    int deleteAllByJobId(@Param("jobId") Long jobId);
+}
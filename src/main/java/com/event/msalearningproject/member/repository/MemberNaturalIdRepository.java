@@ -0,0 +1,11 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+
+import java.util.Optional;
+
+public interface MemberNaturalIdRepository {
+
+    // userId(natural id) 조회 - 2차 캐시의 natural-id -> id -> 엔티티 순으로 찾고 없을 때만 SQL 실행
+    Optional<MemberEntity> findByUserId(String userId);
+}
@@ -0,0 +1,23 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MemberEntity> findByUserId(String userId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(MemberEntity.class)
+                .loadOptional(userId);
+    }
+}
@@ -1,26 +1,113 @@
 package com.event.msalearningproject.member.repository;
 
 import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
-
-    Optional<MemberEntity> findByUserId(String userId);
+public interface MemberRepository extends JpaRepository<MemberEntity, Long>, MemberBulkRepository, MemberNaturalIdRepository {
 
+    // 직접 선언한 조회 메서드에는 SimpleJpaRepository 의 readOnly 트랜잭션이 적용되지 않으므로,
+    // 트랜잭션 밖에서 호출되는 조회는 읽기 풀을 사용하도록 readOnly 지정 (쓰기 트랜잭션 안에서는 그 커넥션을 그대로 사용)
+    @Transactional(readOnly = true)
     Optional<MemberEntity> findByContact(String contact);
 
     Optional<MemberEntity> findByEmail(String email);
 
     List<MemberEntity> findByActiveTrue();
 
+    // id 커서 기반 페이지 조회 (offset 없이 인덱스 범위 스캔)
+    Slice<MemberEntity> findByActiveTrueAndIdGreaterThan(Long id, Pageable pageable);
+
+    // 전체 목록을 한 번에 메모리에 올리지 않고 fetch size 단위로 읽음 (트랜잭션 안에서 사용 후 close 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from MemberEntity m where m.active = true order by m.id")
+    Stream<MemberEntity> streamActiveMembers();
+
+    // 캠페인 대상 id 커서 조회 - 엔티티 대신 발송에 필요한 컬럼만 읽음
+    @Query("select new com.event.msalearningproject.member.repository.CampaignRecipient("
+            + "m.id, m.userId, m.contact, m.email) "
+            + "from MemberEntity m "
+            + "where m.active = true and m.messageType = :messageType and m.id > :cursor "
+            + "order by m.id")
+    @Transactional(readOnly = true)
+    List<CampaignRecipient> findCampaignRecipients(@Param("messageType") MessageType messageType,
+                                                   @Param("cursor") Long cursor,
+                                                   Pageable pageable);
+
+    // 탈퇴 회원을 포함한 전체 식별자 (unique 제약 대상) - 트랜잭션 안에서 사용 후 close 필요
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.event.msalearningproject.member.repository.MemberIdentifiers(m.userId, m.email, m.contact) "
+            + "from MemberEntity m")
+    Stream<MemberIdentifiers> streamIdentifiers();
+
+    // 일괄 가입 중복 검사 - 청크의 userId / email / contact 중 이미 사용 중인 값을 한 번의 조회로 확인
+    @Query("select new com.event.msalearningproject.member.repository.MemberIdentifiers(m.userId, m.email, m.contact) "
+            + "from MemberEntity m "
+            + "where m.userId in :userIds or m.email in :emails or m.contact in :contacts")
+    @Transactional(readOnly = true)
+    List<MemberIdentifiers> findIdentifiersIn(@Param("userIds") Collection<String> userIds,
+                                              @Param("emails") Collection<String> emails,
+                                              @Param("contacts") Collection<String> contacts);
+
+    // 탈퇴 회원 id - 발송 이력을 파기한 회원에게 이후 발송된 메시지(탈퇴 안내 등)의 이력을 남기지 않도록 확인
+    @Query("select m.id from MemberEntity m where m.id in :ids and m.active = false")
+    @Transactional(readOnly = true)
+    List<Long> findInactiveIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
     boolean existsByUserId(String userId);
 
+    @Transactional(readOnly = true)
     boolean existsByEmail(String email);
 
+    @Transactional(readOnly = true)
     boolean existsByContact(String contact);
+
+    // 엔티티를 로딩하지 않고 한 번의 조회로 userId / email / contact 중복 여부 확인
+    @Query("select new com.event.msalearningproject.member.repository.MemberDuplicateProbe("
+            + "sum(case when m.userId = :userId then 1 else 0 end), "
+            + "sum(case when m.email = :email then 1 else 0 end), "
+            + "sum(case when m.contact = :contact then 1 else 0 end)) "
+            + "from MemberEntity m "
+            + "where m.userId = :userId or m.email = :email or m.contact = :contact")
+    @Transactional(readOnly = true)
+    MemberDuplicateProbe probeDuplicates(@Param("userId") String userId,
+                                         @Param("email") String email,
+                                         @Param("contact") String contact);
+
+    // 일괄 탈퇴 대상 조회 - 동시에 진행되는 탈퇴와 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from MemberEntity m where m.userId in :userIds and m.active = true")
+    List<MemberEntity> findActiveForUpdateByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    // 엔티티 로딩/dirty checking 없이 한 번의 UPDATE 로 비활성화
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MemberEntity m set m.active = false, m.exitDate = :exitDate "
+            + "where m.id in :ids and m.active = true")
+    int deactivateAllByIdIn(@Param("ids") Collection<Long> ids, @Param("exitDate") LocalDateTime exitDate);
 }
@@ -0,0 +1,58 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MessageCampaignEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MessageCampaignRepository extends JpaRepository<MessageCampaignEntity, Long> {
+
+    @Transactional(readOnly = true)
+    Optional<MessageCampaignEntity> findByCampaignKey(String campaignKey);
+
+    // 발송할 캠페인 선점 - 접수 상태이거나 선점 기한이 지난 캠페인을 잠금 (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from MessageCampaignEntity c "
+            + "where c.status <> com.event.msalearningproject.member.repository.entity.CampaignStatus.COMPLETED "
+            + "and (c.leaseUntil is null or c.leaseUntil <= :now) order by c.id")
+    List<MessageCampaignEntity> findRunnableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 페이지 발송 결과 반영과 선점 연장 - 선점을 다른 노드에 빼앗겼으면 0 을 반환
+    @Transactional
+    @Modifying
+    @Query("update MessageCampaignEntity c set c.lastMemberId = :lastMemberId, "
+            + "c.targeted = c.targeted + :targeted, c.sent = c.sent + :sent, c.failed = c.failed + :failed, "
+            + "c.leaseUntil = :leaseUntil "
+            + "where c.id = :id and c.leaseToken = :leaseToken")
+    int recordProgress(@Param("id") Long id,
+                       @Param("leaseToken") String leaseToken,
+                       @Param("lastMemberId") long lastMemberId,
+                       @Param("targeted") int targeted,
+                       @Param("sent") int sent,
+                       @Param("failed") int failed,
+                       @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update MessageCampaignEntity c "
+            + "set c.status = com.event.msalearningproject.member.repository.entity.CampaignStatus.COMPLETED, "
+            + "c.completedAt = :completedAt, c.leaseUntil = null, c.leaseToken = null "
+            + "where c.id = :id and c.leaseToken = :leaseToken")
+    int complete(@Param("id") Long id,
+                 @Param("leaseToken") String leaseToken,
+                 @Param("completedAt") LocalDateTime completedAt);
+}
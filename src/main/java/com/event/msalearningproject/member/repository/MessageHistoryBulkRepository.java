@@ -0,0 +1,11 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+
+import java.util.List;
+
+public interface MessageHistoryBulkRepository {
+
+    // hibernate.jdbc.batch_size 단위로 flush 하여 발송 이력을 JDBC batch insert 로 저장
+    List<MessageHistoryEntity> insertAll(List<MessageHistoryEntity> histories);
+}
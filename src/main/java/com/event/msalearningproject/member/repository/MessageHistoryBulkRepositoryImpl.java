@@ -0,0 +1,35 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class MessageHistoryBulkRepositoryImpl implements MessageHistoryBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public MessageHistoryBulkRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public List<MessageHistoryEntity> insertAll(List<MessageHistoryEntity> histories) {
+        for (int from = 0; from < histories.size(); from += batchSize) {
+            List<MessageHistoryEntity> chunk = histories.subList(from, Math.min(from + batchSize, histories.size()));
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+
+            // 호출 트랜잭션의 다른 엔티티는 유지하고, 저장한 이력만 영속성 컨텍스트에서 분리
+            chunk.forEach(entityManager::detach);
+        }
+        return histories;
+    }
+}
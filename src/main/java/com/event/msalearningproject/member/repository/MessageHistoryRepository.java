@@ -1,19 +1,45 @@
 package com.event.msalearningproject.member.repository;
 
 import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface MessageHistoryRepository extends JpaRepository<MessageHistoryEntity, Long> {
+public interface MessageHistoryRepository extends JpaRepository<MessageHistoryEntity, Long>, MessageHistoryBulkRepository {
 
     List<MessageHistoryEntity> findByMemberId(Long memberId);
 
     void deleteByMemberId(Long memberId);
 
+    // 파생 delete(조회 후 한 건씩 삭제) 대신 한 번의 DELETE 문으로 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("delete from MessageHistoryEntity h where h.member.id in :memberIds")
+    int deleteAllByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
     List<MessageHistoryEntity> findBySentTrue();
 
     List<MessageHistoryEntity> findBySentFalse();
+
+    // 재시도 대상 선점 - 행 잠금으로 여러 노드가 같은 이력을 가져가지 않도록 함
+    // (lock timeout -2 = SKIP LOCKED, 지원하지 않는 DB 에서는 일반 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select h from MessageHistoryEntity h "
+            + "where h.sent = false and h.nextAttemptAt <= :now order by h.id")
+    List<MessageHistoryEntity> findRetryableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("select count(h) from MessageHistoryEntity h where h.sent = false and h.nextAttemptAt is not null")
+    long countRetryBacklog();
 }
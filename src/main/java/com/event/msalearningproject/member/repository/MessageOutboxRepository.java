@@ -0,0 +1,36 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MessageOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MessageOutboxRepository extends JpaRepository<MessageOutboxEntity, Long> {
+
+    // 발행 대상 선점 - 행 잠금으로 여러 노드 / 겹친 주기가 같은 outbox 를 가져가지 않도록 함
+    // (lock timeout -2 = SKIP LOCKED, 지원하지 않는 DB 에서는 일반 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from MessageOutboxEntity o "
+            + "where o.claimedUntil is null or o.claimedUntil <= :now order by o.id")
+    List<MessageOutboxEntity> findClaimableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 발행 실패 시 선점을 풀어 다음 주기에 바로 다시 발행
+    @Transactional
+    @Modifying
+    @Query("update MessageOutboxEntity o set o.claimedUntil = null where o.id in :ids")
+    int releaseClaim(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,34 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReactiveMemberRepository extends R2dbcRepository<MemberRecord, Long> {
+
+    Mono<MemberRecord> findByUserId(String userId);
+
+    // 구독자의 요청량(backpressure)에 맞춰 결과를 읽어 전체 목록을 메모리에 올리지 않음
+    @Query("select * from member where active = true order by id")
+    Flux<MemberRecord> streamActiveMembers();
+
+    // MemberRepository.probeDuplicates 와 같은 단일 집계 조회
+    @Query("select "
+            + "sum(case when user_id = :userId then 1 else 0 end) as user_id_count, "
+            + "sum(case when email = :email then 1 else 0 end) as email_count, "
+            + "sum(case when contact = :contact then 1 else 0 end) as contact_count "
+            + "from member "
+            + "where user_id = :userId or email = :email or contact = :contact")
+    Mono<MemberDuplicateProbe> probeDuplicates(String userId, String email, String contact);
+
+    @Modifying
+    @Query("update member set active = false, exit_date = :exitDate where id = :id and active = true")
+    Mono<Integer> deactivate(Long id, LocalDateTime exitDate);
+}
@@ -0,0 +1,62 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * reactive API 의 쓰기 작업 (회원 저장 / outbox 적재 / 발송 이력 삭제)
+ * 식별자는 JPA 와 같은 시퀀스에서 받음 - pooled 최적화(JPA)는 받은 값 이하의 구간만 사용하므로
+ * 여기서 받은 값을 그대로 id 로 써도 JPA 가 할당하는 id 와 겹치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveMemberWriter {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final DatabaseClient databaseClient;
+
+    // id 를 미리 채우므로 save(UPDATE 로 판단) 대신 insert 사용
+    public Mono<MemberRecord> insert(MemberRecord member) {
+        return nextValue("member_seq")
+                .flatMap(id -> {
+                    member.setId(id);
+                    return r2dbcEntityTemplate.insert(member);
+                });
+    }
+
+    public Mono<Void> enqueueMessage(MemberRecord member, String content) {
+        return nextValue("message_outbox_seq")
+                .flatMap(id -> databaseClient.sql("insert into message_outbox "
+                                + "(id, member_id, user_id, message_type, content, recipient, created_at) "
+                                + "values (:id, :memberId, :userId, :messageType, :content, :recipient, :createdAt)")
+                        .bind("id", id)
+                        .bind("memberId", member.getId())
+                        .bind("userId", member.getUserId())
+                        .bind("messageType", member.getMessageType().name())
+                        .bind("content", content)
+                        .bind("recipient", member.recipient())
+                        .bind("createdAt", LocalDateTime.now())
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    public Mono<Long> deleteHistories(Long memberId) {
+        return databaseClient.sql("delete from message_history where member_id = :memberId")
+                .bind("memberId", memberId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Long> nextValue(String sequence) {
+        return databaseClient.sql("select next value for " + sequence)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
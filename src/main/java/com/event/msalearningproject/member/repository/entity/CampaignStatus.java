@@ -0,0 +1,9 @@
+package com.event.msalearningproject.member.repository.entity;
+
+public enum CampaignStatus {
+    // 접수 후 아직 어느 노드도 가져가지 않음
+    PENDING,
+    // 한 노드가 선점해 발송 중 (선점 기한이 지나면 다른 노드가 커서부터 이어서 발송)
+    RUNNING,
+    COMPLETED
+}
@@ -2,7 +2,11 @@ package com.event.msalearningproject.member.repository.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -11,21 +15,38 @@ import java.util.List;
 @ToString
 @Getter
 @Setter
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        // 가입 중복 검사 / 연락처·이메일 조회가 full scan 하지 않도록 unique index
+        @Index(name = "uk_member_contact", columnList = "contact", unique = true),
+        @Index(name = "uk_member_email", columnList = "email", unique = true),
+        // 활성 회원 id 커서 페이지 조회 / 내보내기
+        @Index(name = "idx_member_active_id", columnList = "active, id"),
+        // MessageType 별 캠페인 대상 id 커서 조회
+        @Index(name = "idx_member_active_type_id", columnList = "active, message_type, id")
+})
 @Entity
+// 2차 캐시 - userId 조회(natural-id)와 id 조회 모두 캐시에서 해결 (region 크기 / TTL 은 HibernateCacheConfig)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = MemberEntity.CACHE_REGION)
+@NaturalIdCache(region = MemberEntity.NATURAL_ID_CACHE_REGION)
 @Builder
 @RequiredArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 @AllArgsConstructor
 public class MemberEntity {
+    public static final String CACHE_REGION = "member";
+    public static final String NATURAL_ID_CACHE_REGION = "member-natural-id";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 20)
     private String userId;
 
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, length = 100)
     private String password;
 
     @Column(nullable = false, length = 20)
@@ -0,0 +1,41 @@
+package com.event.msalearningproject.member.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 일괄 가입 실패 행 (작업당 최대 member.import.max-reported-errors 건)
+@Entity
+@Table(name = "member_import_error", indexes = {
+        @Index(name = "idx_member_import_error_job", columnList = "job_id, line")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MemberImportErrorEntity {
+
+    public static final int USER_ID_MAX_LENGTH = 100;
+    public static final int MESSAGE_MAX_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_import_error_seq_generator")
+    @SequenceGenerator(name = "member_import_error_seq_generator", sequenceName = "member_import_error_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long line;
+
+    @Column(length = USER_ID_MAX_LENGTH)
+    private String userId;
+
+    @Column(nullable = false, length = 20)
+    private String errorCode;
+
+    @Column(nullable = false, length = MESSAGE_MAX_LENGTH)
+    private String message;
+}
@@ -0,0 +1,58 @@
+package com.event.msalearningproject.member.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "member_import_job", indexes = {
+        // 처리할 일괄 가입 작업 선점
+        @Index(name = "idx_member_import_job_status", columnList = "status, lease_until")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MemberImportJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_import_job_seq_generator")
+    @SequenceGenerator(name = "member_import_job_seq_generator", sequenceName = "member_import_job_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberImportStatus status;
+
+    // 빈 줄과 CSV 헤더를 제외한 행 수 (적재가 끝나면 기록)
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int imported;
+
+    @Column(nullable = false)
+    private int failed;
+
+    // 처리 중인 노드의 선점 기한과 식별 값 - 기한이 지나도록 진행이 반영되지 않으면(노드 장애 등) 다른 노드가 가져감
+    @Column
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 36)
+    private String leaseToken;
+
+    // 접수한 요청의 id (X-Request-Id) - 처리 로그까지 추적
+    @Column(length = 64)
+    private String requestId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime completedAt;
+}
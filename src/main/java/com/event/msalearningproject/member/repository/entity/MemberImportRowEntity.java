@@ -0,0 +1,40 @@
+package com.event.msalearningproject.member.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 처리 대기 중인 일괄 가입 행 (검증을 통과한 행만 적재)
+ * 비밀번호 원문이 들어 있으므로 그 행을 가입 처리한 트랜잭션에서 함께 삭제 - 남아 있는 행이 곧 재개할 위치
+ */
+@Entity
+@Table(name = "member_import_row", indexes = {
+        @Index(name = "idx_member_import_row_job", columnList = "job_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MemberImportRowEntity {
+
+    public static final int REQUEST_MAX_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_import_row_seq_generator")
+    @SequenceGenerator(name = "member_import_row_seq_generator", sequenceName = "member_import_row_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    // 파일의 줄 번호 (오류 응답에 사용)
+    @Column(nullable = false)
+    private long line;
+
+    // MemberJoinRequest JSON
+    @Column(nullable = false, length = REQUEST_MAX_LENGTH)
+    @ToString.Exclude
+    private String request;
+}
@@ -0,0 +1,11 @@
+package com.event.msalearningproject.member.repository.entity;
+
+public enum MemberImportStatus {
+    // 요청 본문을 읽어 적재 중 (적재가 끝나기 전에는 처리하지 않음)
+    RECEIVING,
+    // 적재 후 아직 어느 노드도 가져가지 않음
+    PENDING,
+    // 한 노드가 선점해 가입 처리 중 (선점 기한이 지나면 다른 노드가 남은 행부터 이어서 처리)
+    RUNNING,
+    COMPLETED
+}
@@ -0,0 +1,43 @@
+package com.event.msalearningproject.member.repository.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// reactive API(R2DBC) 용 member 테이블 매핑 - 스키마는 MemberEntity(JPA) 기준
+@ToString(exclude = "password")
+@Getter
+@Setter
+@Table("member")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberRecord {
+
+    @Id
+    private Long id;
+
+    private String userId;
+
+    private String password;
+
+    private String name;
+
+    private String contact;
+
+    private String email;
+
+    private MessageType messageType;
+
+    private LocalDateTime joinDate;
+
+    private LocalDateTime exitDate;
+
+    private boolean active;
+
+    public String recipient() {
+        return messageType.recipientOf(contact, email);
+    }
+}
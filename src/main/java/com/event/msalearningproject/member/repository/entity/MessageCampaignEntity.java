@@ -0,0 +1,73 @@
+package com.event.msalearningproject.member.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "message_campaign", indexes = {
+        // 중복 접수 확인 (Idempotency-Key 또는 내용 fingerprint)
+        @Index(name = "uk_message_campaign_key", columnList = "campaign_key", unique = true),
+        // 발송할 캠페인 선점
+        @Index(name = "idx_message_campaign_status", columnList = "status, lease_until")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MessageCampaignEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_campaign_seq_generator")
+    @SequenceGenerator(name = "message_campaign_seq_generator", sequenceName = "message_campaign_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String campaignKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MessageType messageType;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CampaignStatus status;
+
+    // 마지막으로 발송을 끝낸 회원 id (id 커서) - 재개 시 이 다음부터 발송
+    @Column(nullable = false)
+    private long lastMemberId;
+
+    @Column(nullable = false)
+    private int targeted;
+
+    @Column(nullable = false)
+    private int sent;
+
+    @Column(nullable = false)
+    private int failed;
+
+    // 발송 중인 노드의 선점 기한과 식별 값 - 기한이 지나도록 진행이 반영되지 않으면(노드 장애 등) 다른 노드가 가져감
+    @Column
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 36)
+    private String leaseToken;
+
+    // 접수한 요청의 id (X-Request-Id) - 발송 로그 / 이력까지 추적
+    @Column(length = 64)
+    private String requestId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime completedAt;
+}
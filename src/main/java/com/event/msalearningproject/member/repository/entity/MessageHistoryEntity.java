@@ -7,7 +7,14 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "message_history")
+@Table(name = "message_history", indexes = {
+        // 회원별 이력 조회 / 탈퇴 시 일괄 삭제
+        @Index(name = "idx_message_history_member_id", columnList = "member_id"),
+        // 미발송 이력 조회 (sent = false 는 소수이므로 id 순으로 바로 읽음)
+        @Index(name = "idx_message_history_sent_id", columnList = "sent, id"),
+        // 재시도 대상 조회 (재시도가 끝난 실패 이력은 next_attempt_at 이 null)
+        @Index(name = "idx_message_history_retry", columnList = "sent, next_attempt_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +24,8 @@ import java.time.LocalDateTime;
 public class MessageHistoryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_history_seq_generator")
+    @SequenceGenerator(name = "message_history_seq_generator", sequenceName = "message_history_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,7 +39,7 @@ public class MessageHistoryEntity {
     @Column(nullable = false, length = 500)
     private String content;
 
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, length = 100)
     private String to;
 
     @Column(nullable = false)
@@ -40,6 +48,18 @@ public class MessageHistoryEntity {
     @Column(length = 500)
     private String errorMessage;
 
+    // 최초 발송을 포함한 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 재시도 시각 (발송 성공 또는 최대 시도 횟수 도달 시 null)
+    @Column
+    private LocalDateTime nextAttemptAt;
+
+    // 발송을 일으킨 요청의 id (X-Request-Id)
+    @Column(length = 64)
+    private String requestId;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime sentAt;
@@ -0,0 +1,53 @@
+package com.event.msalearningproject.member.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "message_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MessageOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_outbox_seq_generator")
+    @SequenceGenerator(name = "message_outbox_seq_generator", sequenceName = "message_outbox_seq", allocationSize = 100)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    @ToString.Exclude
+    private MemberEntity member;
+
+    // 발송 시점에 회원을 다시 조회하지 않도록 저장 시점 값을 보관
+    @Column(nullable = false, length = 20)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MessageType messageType;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    // 적재한 요청의 id (요청 밖에서 적재하면 null)
+    @Column(length = 64)
+    private String requestId;
+
+    // 발행 선점 기한 (null 이거나 지났으면 선점 가능) - 발행 중인 행을 다른 노드 / 다음 주기가 다시 가져가지 않도록 함
+    private LocalDateTime claimedUntil;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
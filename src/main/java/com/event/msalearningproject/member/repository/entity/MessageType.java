@@ -4,5 +4,13 @@ public enum MessageType {
     PUSH,     // 앱 푸시
     KAKAO,    // 카카오
     SMS,      // 문자
-    EMAIL     // 이메일
-} 
\ No newline at end of file
+    EMAIL;    // 이메일
+
+    // 메시지 타입에 따른 수신처
+    public String recipientOf(String contact, String email) {
+        return switch (this) {
+            case SMS, KAKAO, PUSH -> contact;  // 연락처 사용
+            case EMAIL -> email;               // 이메일 사용
+        };
+    }
+}
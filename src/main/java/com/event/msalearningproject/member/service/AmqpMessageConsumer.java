@@ -0,0 +1,40 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "amqp")
+public class AmqpMessageConsumer {
+
+    private final MessageDeliveryService messageDeliveryService;
+
+    // 채널별 queue 의 listener 는 AmqpConfig 에서 등록 - 발송 로그에 발행한 요청의 id 를 남김
+    public void consume(MessageEvent event) {
+        MDC.put(RequestIdFilter.MDC_KEY, event.getRequestId());
+        try {
+            messageDeliveryService.deliverOrThrow(event);
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+    }
+
+    @RabbitListener(queues = "${member.message.amqp.dead-letter-queue:member.message.dlq}")
+    public void consumeDeadLetter(MessageEvent event,
+                                  @Header(name = RepublishMessageRecoverer.X_EXCEPTION_MESSAGE, required = false) String errorMessage) {
+        log.warn("메시지 전송 최종 실패: userId={}, messageType={}, requestId={}, error={}",
+                event.getUserId(), event.getMessageType(), event.getRequestId(), errorMessage);
+
+        messageDeliveryService.recordFailure(event, errorMessage);
+    }
+}
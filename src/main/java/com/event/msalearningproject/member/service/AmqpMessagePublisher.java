@@ -0,0 +1,79 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageAmqpProperties;
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// MessageType 을 routing key 로 사용하여 채널별 queue 로 분배
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "amqp")
+public class AmqpMessagePublisher implements MessagePublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageAmqpProperties properties;
+
+    /**
+     * 브로커 confirm(ack) 을 모두 받은 뒤 반환
+     * nack / 제한 시간 초과 / queue 로 라우팅되지 않아 반송(mandatory)된 메시지가 있으면 예외를 던져
+     * outbox 행이 삭제되지 않고 다음 주기에 재발행
+     */
+    @Override
+    public void publish(List<MessageEvent> events) {
+        List<CorrelationData> confirms = events.stream()
+                .map(this::send)
+                .toList();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getConfirmTimeoutMs());
+        try {
+            for (CorrelationData correlation : confirms) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                CorrelationData.Confirm confirm = correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+                if (!confirm.isAck()) {
+                    throw new IllegalStateException("RabbitMQ 메시지 발행 실패 (nack): " + confirm.getReason());
+                }
+                ReturnedMessage returned = correlation.getReturned();
+                if (returned != null) {
+                    throw new IllegalStateException("RabbitMQ 메시지 반송: routingKey=" + returned.getRoutingKey()
+                            + ", replyText=" + returned.getReplyText());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("RabbitMQ 메시지 발행 중단", e);
+        } catch (TimeoutException e) {
+            log.error("RabbitMQ 메시지 confirm 대기 시간 초과: exchange={}, count={}", properties.getExchange(), events.size());
+            throw new IllegalStateException("RabbitMQ 메시지 발행 실패 (confirm 시간 초과)", e);
+        } catch (IllegalStateException e) {
+            log.error("RabbitMQ 메시지 발행 실패: exchange={}, count={}, error={}", properties.getExchange(), events.size(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("RabbitMQ 메시지 발행 실패: exchange={}, count={}, error={}", properties.getExchange(), events.size(), e.getMessage());
+            throw new IllegalStateException("RabbitMQ 메시지 발행 실패", e);
+        }
+    }
+
+    private CorrelationData send(MessageEvent event) {
+        CorrelationData correlation = new CorrelationData();
+        rabbitTemplate.convertAndSend(properties.getExchange(), event.getMessageType().name(), event, message -> {
+            // 요청 id 를 X-Request-Id 헤더로도 전달
+            if (event.getRequestId() != null) {
+                message.getMessageProperties().setHeader(RequestIdFilter.HEADER, event.getRequestId());
+            }
+            return message;
+        }, correlation);
+        return correlation;
+    }
+}
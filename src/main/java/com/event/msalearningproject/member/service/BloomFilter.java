@@ -0,0 +1,84 @@
+package com.event.msalearningproject.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (동시 put/mightContain 가능, 삭제 불가)
+ * 비트 수 m = -n·ln(p) / (ln 2)², 해시 함수 수 k = (m / n)·ln 2
+ * k 개의 위치는 64bit 해시 두 개의 선형 결합(h1 + i·h2, h2 는 홀수)으로 계산
+ */
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact((m + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            long mask = 1L << (index & 63);
+            long previous = bits.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+            changed |= (previous & mask) == 0;
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    // false 면 확실히 없음, true 면 있을 수도 있음
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long memoryBytes() {
+        return bits.length() * 8L;
+    }
+
+    // 현재 적재 건수 기준 예상 오탐률 (1 - e^(-k·n/m))^k
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions.get() / bitSize), hashFunctions);
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
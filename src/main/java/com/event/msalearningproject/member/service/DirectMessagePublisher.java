@@ -0,0 +1,22 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MessageEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기본 모드: 같은 프로세스에서 바로 발송
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "direct", matchIfMissing = true)
+public class DirectMessagePublisher implements MessagePublisher {
+
+    private final MessageDeliveryService messageDeliveryService;
+
+    @Override
+    public void publish(List<MessageEvent> events) {
+        messageDeliveryService.deliverAll(events);
+    }
+}
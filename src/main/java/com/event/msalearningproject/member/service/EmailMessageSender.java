@@ -0,0 +1,40 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+
+// 이메일 발송 게이트웨이
+@Component
+@ConditionalOnProperty(prefix = "member.message.gateway", name = "enabled", havingValue = "true")
+public class EmailMessageSender extends WebClientMessageSender {
+
+    public EmailMessageSender(WebClient.Builder webClientBuilder, MessageGatewayProperties properties,
+                              MeterRegistry meterRegistry) {
+        super(MessageType.EMAIL, webClientBuilder, properties, meterRegistry);
+    }
+
+    @Override
+    protected Object body(MessageEvent event) {
+        return Map.of(
+                "to", event.getRecipient(),
+                "subject", "[MSA] 회원 안내",
+                "body", event.getContent());
+    }
+
+    // 대량 메일 - 수신자는 서로 보이지 않도록 개별 발송 목록으로 전달
+    @Override
+    protected Object batchBody(List<MessageEvent> events) {
+        return Map.of(
+                "recipients", events.stream().map(MessageEvent::getRecipient).toList(),
+                "subject", "[MSA] 회원 안내",
+                "body", events.get(0).getContent());
+    }
+}
@@ -0,0 +1,130 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 처리 결과 저장소 (크기 maximum-size, 보관 기간 ttl)
+ * - 처음 요청: 처리 중 표시(future)를 등록하고 실행, 결과 응답을 그대로 보관
+ * - 처리 중 중복 요청: 처음 요청의 결과를 최대 wait-timeout 동안 기다렸다가 같은 응답을 반환
+ * - 처리 완료 후 중복 요청: 보관된 응답을 재실행 없이 반환 (Idempotent-Replayed: true)
+ * 5xx 응답과 예외는 보관하지 않아 재시도 시 다시 처리
+ */
+@Slf4j
+@Component
+public class IdempotencyCache {
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final Cache<String, Entry> entries;
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMs;
+
+    public IdempotencyCache(MeterRegistry meterRegistry,
+                            @Value("${member.idempotency.maximum-size:100000}") long maximumSize,
+                            @Value("${member.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${member.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    /**
+     * 요청 본문의 정규화된 표현(canonical)을 SHA-256 hex 로 만든 fingerprint
+     * (32 bit hashCode 는 쉽게 충돌해 다른 내용의 재시도를 같은 요청으로 볼 수 있음)
+     */
+    public static String fingerprint(byte[] canonical) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param fingerprint 같은 키로 다른 내용의 요청이 오면 IDEMPOTENCY_KEY_REUSED
+     */
+    public <T> ResponseEntity<T> execute(String key, String fingerprint, Supplier<ResponseEntity<T>> action) {
+        CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+        Entry entry = new Entry(fingerprint, result);
+
+        // 짧은 putIfAbsent 만 lock 안에서 수행하고 처리는 lock 밖에서 (MemberCache 와 같은 이유)
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            return replay(key, fingerprint, existing);
+        }
+
+        record("executed");
+        try {
+            ResponseEntity<T> response = action.get();
+            if (response.getStatusCode().is5xxServerError()) {
+                entries.asMap().remove(key, entry);
+            }
+            result.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(key, entry);
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(String key, String fingerprint, Entry existing) {
+        if (!existing.fingerprint().equals(fingerprint)) {
+            record("reused");
+            throw new MemberException(MemberErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        record(existing.result().isDone() ? "replayed" : "waited");
+        ResponseEntity<T> response;
+        try {
+            response = (ResponseEntity<T>) existing.result().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Idempotency-Key 처리 대기 시간 초과: key={}, waitTimeoutMs={}", key, waitTimeoutMs);
+            throw new MemberException(MemberErrorCode.REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberException(MemberErrorCode.REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // 처음 요청이 예외로 끝난 경우 - 같은 예외로 응답하고 다음 재시도는 새로 처리
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new MemberException(MemberErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("member.idempotency", "result", result).increment();
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<ResponseEntity<?>> result) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "kafka")
+public class KafkaMessageConsumer {
+
+    private final MessageDeliveryService messageDeliveryService;
+
+    // poll 한 묶음을 MessageType 별로 나누어 채널 단위로 발송/이력 저장
+    @KafkaListener(topics = "${member.message.kafka.topic:member-message}",
+            groupId = "${member.message.kafka.group-id:member-message-dispatcher}",
+            containerFactory = "messageEventListenerContainerFactory")
+    public void consume(List<MessageEvent> events) {
+        Map<MessageType, List<MessageEvent>> eventsByType = events.stream()
+                .collect(Collectors.groupingBy(MessageEvent::getMessageType,
+                        () -> new EnumMap<>(MessageType.class), Collectors.toList()));
+
+        eventsByType.forEach((messageType, group) -> {
+            log.debug("Kafka 메시지 수신: messageType={}, count={}", messageType, group.size());
+            messageDeliveryService.deliverAll(group);
+        });
+    }
+}
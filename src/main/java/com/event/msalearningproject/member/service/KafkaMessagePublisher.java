@@ -0,0 +1,61 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.message", name = "dispatch-mode", havingValue = "kafka")
+public class KafkaMessagePublisher implements MessagePublisher {
+
+    private final KafkaTemplate<String, MessageEvent> messageEventKafkaTemplate;
+
+    @Value("${member.message.kafka.topic:member-message}")
+    private String topic;
+
+    @Value("${member.message.kafka.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * userId 를 key 로 발행하여 같은 회원의 메시지는 같은 파티션에서 순서대로 처리
+     * 브로커 ack 를 모두 받은 뒤 반환하므로, 실패 시 outbox 행이 삭제되지 않고 다음 주기에 재발행
+     */
+    @Override
+    public void publish(List<MessageEvent> events) {
+        CompletableFuture<?>[] futures = events.stream()
+                .map(event -> messageEventKafkaTemplate.send(toRecord(event)))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Kafka 메시지 발행 중단", e);
+        } catch (Exception e) {
+            log.error("Kafka 메시지 발행 실패: topic={}, count={}, error={}", topic, events.size(), e.getMessage());
+            throw new IllegalStateException("Kafka 메시지 발행 실패", e);
+        }
+    }
+
+    // 요청 id 는 payload 와 함께 X-Request-Id 헤더로도 전달 (payload 를 읽지 않는 도구에서도 추적)
+    private ProducerRecord<String, MessageEvent> toRecord(MessageEvent event) {
+        ProducerRecord<String, MessageEvent> record = new ProducerRecord<>(topic, event.getUserId(), event);
+        if (event.getRequestId() != null) {
+            record.headers().add(RequestIdFilter.HEADER, event.getRequestId().getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+}
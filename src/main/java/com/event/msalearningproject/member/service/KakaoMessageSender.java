@@ -0,0 +1,37 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+
+// 카카오 알림톡 게이트웨이
+@Component
+@ConditionalOnProperty(prefix = "member.message.gateway", name = "enabled", havingValue = "true")
+public class KakaoMessageSender extends WebClientMessageSender {
+
+    public KakaoMessageSender(WebClient.Builder webClientBuilder, MessageGatewayProperties properties,
+                              MeterRegistry meterRegistry) {
+        super(MessageType.KAKAO, webClientBuilder, properties, meterRegistry);
+    }
+
+    @Override
+    protected Object body(MessageEvent event) {
+        return Map.of(
+                "phoneNumber", event.getRecipient(),
+                "templateCode", "MEMBER_NOTICE",
+                "message", event.getContent());
+    }
+
+    // 알림톡 다건 API 는 수신자별 메시지 목록을 받음
+    @Override
+    protected Object batchBody(List<MessageEvent> events) {
+        return Map.of("messages", events.stream().map(this::body).toList());
+    }
+}
@@ -0,0 +1,139 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 회원 조회 결과(MemberResponse) 캐시 - userId / contact 두 가지 키로 보관
+ * 크기(maximum-size)와 TTL 로 만료되며, hit/miss/eviction 통계는 cache.* 메트릭으로 노출
+ * 제거(evict)한 key 는 replica-lag 동안 쓰기 트랜잭션(primary)으로 다시 조회
+ * (읽기 풀의 replica 가 아직 반영하지 못한 이전 상태 - 탈퇴 전 활성 회원 등 - 를 다시 캐시하지 않도록)
+ * 제거는 이 노드의 캐시에만 적용됨 - 다른 노드에서 탈퇴 / 수정한 회원은 이 노드에서 ttl 이 지날 때까지 이전 값으로 조회될 수 있음
+ */
+@Component
+public class MemberCache {
+
+    private final AsyncCache<String, MemberResponse> byUserId;
+    private final AsyncCache<String, MemberResponse> byContact;
+    private final Cache<String, Boolean> evictedUserIds;
+    private final Cache<String, Boolean> evictedContacts;
+    private final TransactionOperations primaryReads;
+
+    public MemberCache(MeterRegistry meterRegistry,
+                       TransactionOperations transactionTemplate,
+                       @Value("${member.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${member.cache.ttl:10m}") Duration ttl,
+                       @Value("${member.cache.replica-lag:5s}") Duration replicaLag) {
+        this.byUserId = newCache(maximumSize, ttl);
+        this.byContact = newCache(maximumSize, ttl);
+        this.evictedUserIds = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(replicaLag).build();
+        this.evictedContacts = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(replicaLag).build();
+        this.primaryReads = transactionTemplate;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byUserId.synchronous(), "member.byUserId");
+        CaffeineCacheMetrics.monitor(meterRegistry, byContact.synchronous(), "member.byContact");
+    }
+
+    // 조회 실패(예외)는 캐시하지 않음
+    public MemberResponse getByUserId(String userId, Function<String, MemberResponse> loader) {
+        return get(byUserId, userId, primaryIfEvicted(evictedUserIds, userId, loader));
+    }
+
+    public MemberResponse getByContact(String contact, Function<String, MemberResponse> loader) {
+        return get(byContact, contact, primaryIfEvicted(evictedContacts, contact, loader));
+    }
+
+    public void evict(MemberEntity memberEntity) {
+        evict(memberEntity.getUserId(), memberEntity.getContact());
+    }
+
+    public void evict(String userId, String contact) {
+        evictedUserIds.put(userId, Boolean.TRUE);
+        evictedContacts.put(contact, Boolean.TRUE);
+        byUserId.synchronous().invalidate(userId);
+        byContact.synchronous().invalidate(contact);
+    }
+
+    // 쓰기 트랜잭션 안의 조회는 쓰기 풀(primary) 커넥션을 사용 (DataSourceConfig)
+    private Function<String, MemberResponse> primaryIfEvicted(Cache<String, Boolean> evicted, String key,
+                                                             Function<String, MemberResponse> loader) {
+        if (evicted.getIfPresent(key) == null) {
+            return loader;
+        }
+        return k -> primaryReads.execute(status -> loader.apply(k));
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션이 진행 중이면 커밋 후 한 번 더 제거
+     * (커밋 전에 다른 요청이 이전 상태를 다시 캐시하는 경우 방지)
+     */
+    public void evictAfterCommit(MemberEntity memberEntity) {
+        evictAllAfterCommit(List.of(memberEntity));
+    }
+
+    // 일괄 탈퇴 등 여러 회원을 처리할 때 트랜잭션당 synchronization 을 하나만 등록
+    public void evictAllAfterCommit(List<MemberEntity> memberEntities) {
+        memberEntities.forEach(this::evict);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberEntities.forEach(MemberCache.this::evict);
+                }
+            });
+        }
+    }
+
+    /**
+     * 동기 Cache.get(key, loader) 는 ConcurrentHashMap.compute 의 bin lock(synchronized) 안에서 loader(DB 조회)를 실행하여
+     * virtual thread 가 조회 시간 동안 carrier thread 에 고정(pinning)됨
+     * 비어 있는 future 만 lock 안에서 등록하고 조회는 lock 밖에서 수행 (같은 key 의 동시 조회는 그 future 를 기다림)
+     * 조회 중 evict 되면 future 가 캐시에서 제거되므로 완료된 이전 값이 다시 캐시되지 않음
+     */
+    private MemberResponse get(AsyncCache<String, MemberResponse> cache, String key,
+                               Function<String, MemberResponse> loader) {
+        CompletableFuture<MemberResponse> loading = new CompletableFuture<>();
+        CompletableFuture<MemberResponse> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AsyncCache<String, MemberResponse> newCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+}
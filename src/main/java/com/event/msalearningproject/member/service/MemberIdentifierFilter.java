@@ -0,0 +1,129 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.repository.MemberIdentifiers;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * 가입된 userId / email / contact 의 Bloom filter
+ * - false: 확실히 사용 가능 → DB 중복 검사 생략
+ * - true: 사용 중일 수 있음 → 인덱스 조회로 확인
+ * 기동 시 전체 회원으로 채우기 전까지는 항상 true (DB 확인) 로 응답
+ * 다른 인스턴스의 가입은 반영되지 않으므로 insert 시 unique 제약 위반은 MemberService 에서 DB 검사로 다시 확인
+ */
+@Slf4j
+@Component
+public class MemberIdentifierFilter {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Field userIds;
+    private final Field emails;
+    private final Field contacts;
+    private volatile boolean ready;
+
+    public MemberIdentifierFilter(MemberRepository memberRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${member.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                  @Value("${member.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        // 전체 회원을 스트리밍하는 적재 조회가 쓰기 풀의 커넥션을 점유하지 않도록 읽기 전용 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.userIds = new Field("userId", expectedInsertions, falsePositiveRate, meterRegistry);
+        this.emails = new Field("email", expectedInsertions, falsePositiveRate, meterRegistry);
+        this.contacts = new Field("contact", expectedInsertions, falsePositiveRate, meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<MemberIdentifiers> identifiers = memberRepository.streamIdentifiers()) {
+                identifiers.forEach(member -> put(member.getUserId(), member.getEmail(), member.getContact()));
+            }
+        });
+        ready = true;
+        log.info("회원 식별자 Bloom filter 적재 완료: members={}, elapsedMs={}",
+                userIds.filter.insertions(), System.currentTimeMillis() - startedAt);
+    }
+
+    public void put(String userId, String email, String contact) {
+        userIds.filter.put(userId);
+        emails.filter.put(email);
+        contacts.filter.put(contact);
+    }
+
+    public boolean mightContainUserId(String userId) {
+        return userIds.mightContain(userId, ready);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return emails.mightContain(email, ready);
+    }
+
+    public boolean mightContainContact(String contact) {
+        return contacts.mightContain(contact, ready);
+    }
+
+    public boolean mightContainAny(String userId, String email, String contact) {
+        // 세 항목 모두 확인하여 항목별 hit 메트릭을 남김
+        boolean userIdHit = mightContainUserId(userId);
+        boolean emailHit = mightContainEmail(email);
+        boolean contactHit = mightContainContact(contact);
+        return userIdHit || emailHit || contactHit;
+    }
+
+    /**
+     * 항목별 filter 와 메트릭
+     * - member.bloom.memory (bytes), member.bloom.fpp (현재 적재 건수 기준 예상 오탐률), member.bloom.insertions
+     * - member.bloom.check: result=negative(DB 생략) / maybe(DB 확인)
+     */
+    private static class Field {
+
+        private final BloomFilter filter;
+        private final Counter negative;
+        private final Counter maybe;
+
+        Field(String name, long expectedInsertions, double falsePositiveRate, MeterRegistry meterRegistry) {
+            this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.negative = meterRegistry.counter("member.bloom.check", "field", name, "result", "negative");
+            this.maybe = meterRegistry.counter("member.bloom.check", "field", name, "result", "maybe");
+
+            Gauge.builder("member.bloom.memory", filter, BloomFilter::memoryBytes)
+                    .tag("field", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("member.bloom.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+                    .tag("field", name)
+                    .register(meterRegistry);
+            Gauge.builder("member.bloom.insertions", filter, BloomFilter::insertions)
+                    .tag("field", name)
+                    .register(meterRegistry);
+        }
+
+        boolean mightContain(String value, boolean ready) {
+            if (value == null) {
+                return false;
+            }
+            if (ready && !filter.mightContain(value)) {
+                negative.increment();
+                return false;
+            }
+            maybe.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 일괄 가입 파일을 한 줄씩 읽어 MemberJoinRequest 로 변환 (파일 전체를 메모리에 올리지 않음)
+ * - NDJSON: 한 줄에 MemberJoinRequest JSON 하나
+ * - CSV: 첫 줄은 헤더(userId,password,name,contact,email,messageType - 순서 무관), 값은 "..." 로 감쌀 수 있음 (줄바꿈 포함 불가)
+ * 빈 줄은 건너뛰고, 변환할 수 없는 줄은 오류 행으로 반환
+ */
+class MemberImportReader {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final List<String> CSV_COLUMNS = List.of("userid", "password", "name", "contact", "email", "messagetype");
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final boolean csv;
+    private Map<String, Integer> csvHeader;
+    private long line;
+
+    MemberImportReader(MediaType contentType, InputStream body, ObjectMapper objectMapper) {
+        this.csv = TEXT_CSV.includes(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.includes(contentType)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+        }
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    record Row(long line, MemberJoinRequest request, String error) {
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * @return 다음 행 (파일 끝이면 null)
+     */
+    Row next() {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        if (!csv) {
+            return parseJson(text);
+        }
+        if (csvHeader == null) {
+            Row headerError = parseHeader(text);
+            return headerError != null ? headerError : next();
+        }
+        return parseCsv(text);
+    }
+
+    private String readLine() {
+        try {
+            String text = reader.readLine();
+            if (text != null) {
+                line++;
+            }
+            return text;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Row parseJson(String text) {
+        try {
+            return new Row(line, objectMapper.readValue(text, MemberJoinRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private Row parseHeader(String text) {
+        Map<String, Integer> header = new HashMap<>();
+        List<String> columns = split(text);
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream()
+                .filter(column -> !header.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+        csvHeader = header;
+        return null;
+    }
+
+    private Row parseCsv(String text) {
+        List<String> values = split(text);
+        if (values.size() < csvHeader.size()) {
+            return new Row(line, null, "컬럼 수가 헤더와 다릅니다: " + values.size());
+        }
+
+        MessageType messageType = null;
+        String type = value(values, "messagetype");
+        if (type != null) {
+            try {
+                messageType = MessageType.valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return new Row(line, null, "지원하지 않는 메시지 타입입니다: " + type);
+            }
+        }
+
+        return new Row(line, MemberJoinRequest.builder()
+                .userId(value(values, "userid"))
+                .password(value(values, "password"))
+                .name(value(values, "name"))
+                .contact(value(values, "contact"))
+                .email(value(values, "email"))
+                .messageType(messageType)
+                .build(), null);
+    }
+
+    // 빈 값은 null (Bean Validation 의 @NotBlank / @NotNull 로 검증)
+    private String value(List<String> values, String column) {
+        String value = values.get(csvHeader.get(column)).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 의 한 줄 분리 ("" 는 따옴표 하나)
+    private static List<String> split(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
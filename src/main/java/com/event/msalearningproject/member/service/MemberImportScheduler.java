@@ -0,0 +1,27 @@
+package com.event.msalearningproject.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberImportScheduler {
+
+    private final MemberImportService memberImportService;
+
+    // 처리할 일괄 가입 작업이 남지 않을 때까지 하나씩 선점해 처리
+    @Scheduled(fixedDelayString = "${member.import.poll-interval-ms:1000}")
+    public void run() {
+        try {
+            boolean claimed;
+            do {
+                claimed = memberImportService.runNext();
+            } while (claimed);
+        } catch (Exception e) {
+            log.error("일괄 가입 처리 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MemberImportError;
+import com.event.msalearningproject.member.dto.MemberImportResponse;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.mapper.MemberMapper;
+import com.event.msalearningproject.member.repository.MemberIdentifiers;
+import com.event.msalearningproject.member.repository.MemberImportErrorRepository;
+import com.event.msalearningproject.member.repository.MemberImportJobRepository;
+import com.event.msalearningproject.member.repository.MemberImportRowRepository;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportErrorEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportJobEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportRowEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 가입 (파트너 회원 적재)
+ * 요청은 파일을 한 줄씩 읽어 검증한 뒤 통과한 행을 작업(RECEIVING)에 적재하고 PENDING 으로 바꿔 바로 반환하며,
+ * 가입 처리는 MemberImportScheduler 가 백그라운드에서 수행
+ * 1. 선점: 적재가 끝났거나 선점 기한이 지난 작업 하나를 잠그고 선점 기한과 token 을 기록
+ * 2. 중복 검사: 남은 행을 chunkSize 행씩 읽어 청크 안의 중복과 DB 에 이미 있는 값을 한 번의 IN 조회로 확인
+ * 3. 해싱: hashConcurrency 건씩 해싱 executor 에 병렬로 제출
+ * 4. 저장: 청크마다 한 트랜잭션에서 회원 / 가입 메시지 outbox / 실패 행을 JDBC batch insert 하고,
+ *    처리한 행을 삭제하면서 건수를 작업에 반영하고 선점 연장
+ * 노드가 중간에 죽으면 선점 기한 뒤 다른 노드가 남은 행부터 이어서 처리 (커밋된 청크는 다시 처리하지 않음)
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+
+    private final MemberRepository memberRepository;
+    private final MemberImportJobRepository memberImportJobRepository;
+    private final MemberImportRowRepository memberImportRowRepository;
+    private final MemberImportErrorRepository memberImportErrorRepository;
+    private final MessageService messageService;
+    private final PasswordHashingService passwordHashingService;
+    private final MemberMapper memberMapper;
+    private final MemberIdentifierFilter memberIdentifierFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MemberMetrics memberMetrics;
+    private final int chunkSize;
+    private final int hashConcurrency;
+    private final int maxReportedErrors;
+    private final long leaseTimeoutMs;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               MemberImportJobRepository memberImportJobRepository,
+                               MemberImportRowRepository memberImportRowRepository,
+                               MemberImportErrorRepository memberImportErrorRepository,
+                               MessageService messageService,
+                               PasswordHashingService passwordHashingService,
+                               MemberMapper memberMapper,
+                               MemberIdentifierFilter memberIdentifierFilter,
+                               TransactionTemplate transactionTemplate,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               MemberMetrics memberMetrics,
+                               @Value("${member.import.chunk-size:1000}") int chunkSize,
+                               @Value("${member.import.hash-concurrency:32}") int hashConcurrency,
+                               @Value("${member.import.max-reported-errors:10000}") int maxReportedErrors,
+                               @Value("${member.import.lease-timeout-ms:300000}") long leaseTimeoutMs) {
+        this.memberRepository = memberRepository;
+        this.memberImportJobRepository = memberImportJobRepository;
+        this.memberImportRowRepository = memberImportRowRepository;
+        this.memberImportErrorRepository = memberImportErrorRepository;
+        this.messageService = messageService;
+        this.passwordHashingService = passwordHashingService;
+        this.memberMapper = memberMapper;
+        this.memberIdentifierFilter = memberIdentifierFilter;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.memberMetrics = memberMetrics;
+        this.chunkSize = chunkSize;
+        this.hashConcurrency = hashConcurrency;
+        this.maxReportedErrors = maxReportedErrors;
+        this.leaseTimeoutMs = leaseTimeoutMs;
+    }
+
+    // 해싱이 끝난 행
+    private record Hashed(MemberImportReader.Row row, String encodedPassword) {
+    }
+
+    /**
+     * 일괄 가입 접수 - 검증을 통과한 행을 적재만 하고 반환 (검증 실패 행은 바로 실패로 기록)
+     * 적재 중 오류가 나면 작업과 적재한 행을 지우고 예외를 그대로 던짐
+     *
+     * @param contentType text/csv 또는 application/x-ndjson (그 외 형식이나 CSV 헤더 오류는 IllegalArgumentException)
+     */
+    public MemberImportResponse submit(MediaType contentType, InputStream body) {
+        return memberMetrics.record("import", () -> {
+            MemberImportReader reader = new MemberImportReader(contentType, body, objectMapper);
+            MemberImportJobEntity job = memberImportJobRepository.saveAndFlush(MemberImportJobEntity.builder()
+                    .status(MemberImportStatus.RECEIVING)
+                    .requestId(MDC.get(RequestIdFilter.MDC_KEY))
+                    .build());
+
+            try {
+                receive(job, reader);
+            } catch (RuntimeException e) {
+                discard(job.getId());
+                throw e;
+            }
+
+            memberImportJobRepository.accept(job.getId(), job.getTotal(), job.getFailed());
+            job.setStatus(MemberImportStatus.PENDING);
+            log.info("일괄 가입 접수: id={}, total={}, invalid={}", job.getId(), job.getTotal(), job.getFailed());
+            return toResponse(job, List.of());
+        });
+    }
+
+    public MemberImportResponse find(Long id) {
+        MemberImportJobEntity job = memberImportJobRepository.findById(id)
+                .orElseThrow(() -> new MemberException(MemberErrorCode.IMPORT_NOT_FOUND,
+                        "존재하지 않는 일괄 가입 작업입니다: " + id));
+        List<MemberImportError> errors = memberImportErrorRepository
+                .findByJobIdOrderByLine(id, PageRequest.of(0, Math.max(maxReportedErrors, 1))).stream()
+                .map(error -> MemberImportError.builder()
+                        .line(error.getLine())
+                        .userId(error.getUserId())
+                        .errorCode(error.getErrorCode())
+                        .message(error.getMessage())
+                        .build())
+                .toList();
+        return toResponse(job, errors);
+    }
+
+    /**
+     * 처리할 작업을 하나 선점해 끝까지(또는 선점을 잃을 때까지) 가입 처리
+     *
+     * @return 선점한 작업이 있었는지 여부
+     */
+    public boolean runNext() {
+        MemberImportJobEntity job = claim();
+        if (job == null) {
+            return false;
+        }
+
+        // 접수한 요청의 id 로 처리 로그를 남김
+        MDC.put(RequestIdFilter.MDC_KEY, job.getRequestId());
+        try {
+            run(job);
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+        return true;
+    }
+
+    // 검증을 통과한 행과 실패 행을 chunkSize 건씩 적재 (건수는 job 에 모아 두었다가 accept 에서 한 번에 기록)
+    private void receive(MemberImportJobEntity job, MemberImportReader reader) {
+        List<MemberImportRowEntity> rows = new ArrayList<>(chunkSize);
+        List<MemberImportError> failures = new ArrayList<>();
+        MemberImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            job.setTotal(job.getTotal() + 1);
+            String error = row.isValid() ? validate(row.request()) : row.error();
+            String request = error == null ? serialize(row.request()) : null;
+            if (error == null && request.length() > MemberImportRowEntity.REQUEST_MAX_LENGTH) {
+                error = "행이 너무 깁니다.";
+            }
+
+            if (error != null) {
+                fail(failures, row, VALIDATION_ERROR, error);
+            } else {
+                rows.add(MemberImportRowEntity.builder()
+                        .jobId(job.getId())
+                        .line(row.line())
+                        .request(request)
+                        .build());
+            }
+
+            if (rows.size() + failures.size() >= chunkSize) {
+                stage(job, rows, failures);
+            }
+        }
+        stage(job, rows, failures);
+    }
+
+    private void stage(MemberImportJobEntity job, List<MemberImportRowEntity> rows, List<MemberImportError> failures) {
+        if (rows.isEmpty() && failures.isEmpty()) {
+            return;
+        }
+
+        List<MemberImportErrorEntity> reported = reportable(job.getId(), failures, job.getFailed());
+        transactionTemplate.executeWithoutResult(status -> {
+            memberImportRowRepository.saveAll(rows);
+            memberImportErrorRepository.saveAll(reported);
+        });
+        job.setFailed(job.getFailed() + failures.size());
+        rows.clear();
+        failures.clear();
+    }
+
+    private void discard(Long jobId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                memberImportRowRepository.deleteAllByJobId(jobId);
+                memberImportErrorRepository.deleteAllByJobId(jobId);
+                memberImportJobRepository.deleteById(jobId);
+            });
+        } catch (RuntimeException e) {
+            log.error("일괄 가입 접수 실패 작업 정리 실패: id={} - {}", jobId, e.getMessage());
+        }
+    }
+
+    private MemberImportJobEntity claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MemberImportJobEntity> runnable = memberImportJobRepository.findRunnableForUpdate(now, PageRequest.of(0, 1));
+            if (runnable.isEmpty()) {
+                return null;
+            }
+
+            MemberImportJobEntity job = runnable.get(0);
+            if (job.getStatus() == MemberImportStatus.RUNNING) {
+                log.warn("선점 기한이 지난 일괄 가입 이어서 처리: id={}, imported={}, failed={}",
+                        job.getId(), job.getImported(), job.getFailed());
+            }
+            job.setStatus(MemberImportStatus.RUNNING);
+            job.setLeaseToken(UUID.randomUUID().toString());
+            job.setLeaseUntil(leaseUntil(now));
+            return job;
+        });
+    }
+
+    private void run(MemberImportJobEntity job) {
+        long startedAt = System.nanoTime();
+        List<MemberImportRowEntity> rows;
+        do {
+            rows = memberImportRowRepository.findByJobIdOrderById(job.getId(), PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            if (!importChunk(job, rows)) {
+                log.warn("일괄 가입 선점을 다른 노드에 넘겨 처리 중단: id={}", job.getId());
+                return;
+            }
+            log.debug("일괄 가입 진행: id={}, total={}, imported={}, failed={}",
+                    job.getId(), job.getTotal(), job.getImported(), job.getFailed());
+        } while (rows.size() == chunkSize);
+
+        memberImportJobRepository.complete(job.getId(), job.getLeaseToken(), LocalDateTime.now());
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("일괄 가입 완료: id={}, total={}, imported={}, failed={}, elapsedMs={}",
+                job.getId(), job.getTotal(), job.getImported(), job.getFailed(), elapsedMs);
+    }
+
+    private String validate(MemberJoinRequest request) {
+        return validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.collectingAndThen(Collectors.joining(", "),
+                        message -> message.isEmpty() ? null : message));
+    }
+
+    /**
+     * @return 선점을 유지한 채 청크를 반영했는지 여부 (선점을 잃었으면 롤백되어 새로 선점한 노드가 처리)
+     */
+    private boolean importChunk(MemberImportJobEntity job, List<MemberImportRowEntity> staged) {
+        List<MemberImportError> failures = new ArrayList<>();
+        List<Long> stagedIds = staged.stream().map(MemberImportRowEntity::getId).toList();
+        List<Hashed> hashed = hashPasswords(removeExisting(removeDuplicatesInChunk(
+                staged.stream().map(this::toRow).toList(), failures), failures), failures);
+
+        try {
+            return commit(job, hashed, failures, stagedIds);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검사 이후 다른 요청이 같은 값으로 가입한 경우 - 다시 검사하고 한 번 더 저장
+            log.warn("일괄 가입 청크 저장 중 unique 제약 위반, 중복 검사 후 재시도: rows={}", hashed.size());
+            Set<MemberImportReader.Row> remaining = new HashSet<>(removeExisting(
+                    hashed.stream().map(Hashed::row).toList(), failures));
+            List<Hashed> retry = hashed.stream()
+                    .filter(pending -> remaining.contains(pending.row()))
+                    .toList();
+            try {
+                return commit(job, retry, failures, stagedIds);
+            } catch (DataIntegrityViolationException retryError) {
+                log.error("일괄 가입 청크 저장 실패: rows={} - {}", retry.size(), retryError.getMessage());
+                retry.forEach(pending -> fail(failures, pending.row(), MemberErrorCode.DATABASE_ERROR));
+                return commit(job, List.of(), failures, stagedIds);
+            }
+        }
+    }
+
+    // 회원 / outbox / 실패 행 저장, 처리한 행 삭제, 진행 반영을 한 트랜잭션으로 묶어 재개 시 같은 행을 다시 처리하지 않음
+    private boolean commit(MemberImportJobEntity job, List<Hashed> hashed, List<MemberImportError> failures,
+                           List<Long> stagedIds) {
+        List<MemberEntity> members = hashed.stream()
+                .map(this::toEntity)
+                .toList();
+        List<MemberImportErrorEntity> reported = reportable(job.getId(), failures, job.getFailed());
+
+        boolean committed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!members.isEmpty()) {
+                memberRepository.insertAll(members);
+                messageService.enqueueJoinMessages(members);
+            }
+            memberImportErrorRepository.saveAll(reported);
+            memberImportRowRepository.deleteAllByIdInBatch(stagedIds);
+            if (memberImportJobRepository.recordProgress(job.getId(), job.getLeaseToken(), members.size(),
+                    failures.size(), leaseUntil(LocalDateTime.now())) == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            return true;
+        }));
+        if (!committed) {
+            return false;
+        }
+
+        members.forEach(member -> memberIdentifierFilter.put(member.getUserId(), member.getEmail(), member.getContact()));
+        job.setImported(job.getImported() + members.size());
+        job.setFailed(job.getFailed() + failures.size());
+        return true;
+    }
+
+    // 같은 청크 안에서 userId / email / contact 가 겹치면 먼저 나온 행만 유지 (이전 청크와의 중복은 DB 조회로 확인)
+    private List<MemberImportReader.Row> removeDuplicatesInChunk(List<MemberImportReader.Row> rows,
+                                                                  List<MemberImportError> failures) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> contacts = new HashSet<>();
+        List<MemberImportReader.Row> unique = new ArrayList<>(rows.size());
+        for (MemberImportReader.Row row : rows) {
+            MemberErrorCode duplicate = duplicateOf(row.request(), userIds, emails, contacts);
+            if (duplicate != null) {
+                fail(failures, row, duplicate);
+                continue;
+            }
+            userIds.add(row.request().getUserId());
+            emails.add(row.request().getEmail());
+            contacts.add(row.request().getContact());
+            unique.add(row);
+        }
+        return unique;
+    }
+
+    // 청크의 값 중 이미 사용 중인 값을 한 번의 조회로 확인
+    private List<MemberImportReader.Row> removeExisting(List<MemberImportReader.Row> rows,
+                                                        List<MemberImportError> failures) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        List<MemberIdentifiers> existing = memberRepository.findIdentifiersIn(
+                rows.stream().map(row -> row.request().getUserId()).toList(),
+                rows.stream().map(row -> row.request().getEmail()).toList(),
+                rows.stream().map(row -> row.request().getContact()).toList());
+        if (existing.isEmpty()) {
+            return rows;
+        }
+
+        Set<String> userIds = existing.stream().map(MemberIdentifiers::getUserId).collect(Collectors.toSet());
+        Set<String> emails = existing.stream().map(MemberIdentifiers::getEmail).collect(Collectors.toSet());
+        Set<String> contacts = existing.stream().map(MemberIdentifiers::getContact).collect(Collectors.toSet());
+        List<MemberImportReader.Row> available = new ArrayList<>(rows.size());
+        for (MemberImportReader.Row row : rows) {
+            MemberErrorCode duplicate = duplicateOf(row.request(), userIds, emails, contacts);
+            if (duplicate != null) {
+                fail(failures, row, duplicate);
+            } else {
+                available.add(row);
+            }
+        }
+        return available;
+    }
+
+    // 우선순위는 회원가입과 같이 userId > email > contact
+    private MemberErrorCode duplicateOf(MemberJoinRequest request, Set<String> userIds, Set<String> emails,
+                                        Set<String> contacts) {
+        if (userIds.contains(request.getUserId())) {
+            return MemberErrorCode.DUPLICATE_USER_ID;
+        }
+        if (emails.contains(request.getEmail())) {
+            return MemberErrorCode.DUPLICATE_EMAIL;
+        }
+        if (contacts.contains(request.getContact())) {
+            return MemberErrorCode.DUPLICATE_CONTACT;
+        }
+        return null;
+    }
+
+    // 해싱 큐를 가득 채워 단건 가입이 거절되지 않도록 hashConcurrency 건씩 제출하고 완료를 기다림
+    private List<Hashed> hashPasswords(List<MemberImportReader.Row> rows, List<MemberImportError> failures) {
+        List<Hashed> hashed = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += hashConcurrency) {
+            List<MemberImportReader.Row> window = rows.subList(from, Math.min(from + hashConcurrency, rows.size()));
+            List<CompletableFuture<String>> futures = window.stream()
+                    .map(row -> passwordHashingService.encodeAsync(row.request().getPassword()))
+                    .toList();
+
+            for (int i = 0; i < window.size(); i++) {
+                try {
+                    hashed.add(new Hashed(window.get(i), futures.get(i).join()));
+                } catch (CompletionException e) {
+                    fail(failures, window.get(i), e.getCause() instanceof MemberException memberException
+                            ? memberException.getErrorCode() : MemberErrorCode.INTERNAL_SERVER_ERROR);
+                }
+            }
+        }
+        return hashed;
+    }
+
+    private MemberEntity toEntity(Hashed hashed) {
+        MemberEntity memberEntity = memberMapper.toEntity(hashed.row().request());
+        memberEntity.setPassword(hashed.encodedPassword());
+        return memberEntity;
+    }
+
+    private String serialize(MemberJoinRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MemberImportReader.Row toRow(MemberImportRowEntity staged) {
+        try {
+            return new MemberImportReader.Row(staged.getLine(),
+                    objectMapper.readValue(staged.getRequest(), MemberJoinRequest.class), null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 작업당 maxReportedErrors 건까지만 저장 (reportedBefore = 이전까지의 실패 수)
+    private List<MemberImportErrorEntity> reportable(Long jobId, List<MemberImportError> failures, int reportedBefore) {
+        int remaining = Math.max(maxReportedErrors - reportedBefore, 0);
+        return failures.stream()
+                .limit(remaining)
+                .map(error -> MemberImportErrorEntity.builder()
+                        .jobId(jobId)
+                        .line(error.getLine())
+                        .userId(truncate(error.getUserId(), MemberImportErrorEntity.USER_ID_MAX_LENGTH))
+                        .errorCode(error.getErrorCode())
+                        .message(truncate(error.getMessage(), MemberImportErrorEntity.MESSAGE_MAX_LENGTH))
+                        .build())
+                .toList();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plusNanos(leaseTimeoutMs * 1_000_000);
+    }
+
+    private MemberImportResponse toResponse(MemberImportJobEntity job, List<MemberImportError> errors) {
+        return MemberImportResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .total(job.getTotal())
+                .imported(job.getImported())
+                .failed(job.getFailed())
+                .errors(new ArrayList<>(errors))
+                .errorsTruncated(job.getFailed() > errors.size() && errors.size() >= maxReportedErrors)
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private void fail(List<MemberImportError> failures, MemberImportReader.Row row, MemberErrorCode errorCode) {
+        fail(failures, row, errorCode.getCode(), errorCode.getMessage());
+    }
+
+    private void fail(List<MemberImportError> failures, MemberImportReader.Row row, String errorCode, String message) {
+        failures.add(MemberImportError.builder()
+                .line(row.line())
+                .userId(row.request() == null ? null : row.request().getUserId())
+                .errorCode(errorCode)
+                .message(message)
+                .build());
+    }
+}
@@ -0,0 +1,63 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * MemberService 연산별 메트릭
+ * - member.operation (timer): operation, outcome(success / business_error / error)
+ * - member.operation.errors (counter): operation, error_code(MemberErrorCode)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberMetrics {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_BUSINESS_ERROR = "business_error";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_SUCCESS;
+        try {
+            return action.get();
+        } catch (MemberException e) {
+            outcome = isSystemError(e.getErrorCode()) ? OUTCOME_ERROR : OUTCOME_BUSINESS_ERROR;
+            countError(operation, e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = OUTCOME_ERROR;
+            countError(operation, MemberErrorCode.INTERNAL_SERVER_ERROR);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("member.operation", "operation", operation, "outcome", outcome));
+        }
+    }
+
+    public void record(String operation, Runnable action) {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void countError(String operation, MemberErrorCode errorCode) {
+        meterRegistry.counter("member.operation.errors", "operation", operation, "error_code", errorCode.name())
+                .increment();
+    }
+
+    private boolean isSystemError(MemberErrorCode errorCode) {
+        return switch (errorCode) {
+            case DATABASE_ERROR, MESSAGE_SEND_ERROR, INTERNAL_SERVER_ERROR, SERVICE_BUSY -> true;
+            default -> false;
+        };
+    }
+}
@@ -1,45 +1,80 @@
 package com.event.msalearningproject.member.service;
 
+import com.event.msalearningproject.config.RequestTiming;
+import com.event.msalearningproject.member.dto.MemberAvailabilityResponse;
+import com.event.msalearningproject.member.dto.MemberBulkExitResponse;
 import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberPageResponse;
 import com.event.msalearningproject.member.dto.MemberResponse;
 import com.event.msalearningproject.member.repository.entity.MemberEntity;
 import com.event.msalearningproject.member.exception.MemberErrorCode;
 import com.event.msalearningproject.member.exception.MemberException;
 import com.event.msalearningproject.member.mapper.MemberMapper;
+import com.event.msalearningproject.member.repository.MemberDuplicateProbe;
 import com.event.msalearningproject.member.repository.MemberRepository;
 import com.event.msalearningproject.member.repository.MessageHistoryRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int BULK_EXIT_CHUNK_SIZE = 1000;
+
     private final MemberRepository memberRepository;
     private final MessageHistoryRepository messageHistoryRepository;
     private final MessageService messageService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final MemberMapper memberMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final MemberCache memberCache;
+    private final MemberMetrics memberMetrics;
+    private final MemberIdentifierFilter memberIdentifierFilter;
 
-    @Transactional
     public MemberResponse join(MemberJoinRequest request) {
+        return memberMetrics.record("join", () -> joinMember(request));
+    }
+
+    // 비밀번호 해싱이 끝난 뒤에 트랜잭션(DB 커넥션)을 시작하도록 트랜잭션 범위를 저장 구간으로 한정
+    private MemberResponse joinMember(MemberJoinRequest request) {
+        boolean probed = false;
         try {
-            validateDuplicateMember(request);
-            MemberEntity memberEntity = createMemberEntity(request);
-            MemberEntity savedMemberEntity = saveMember(memberEntity);
-            sendJoinMessage(savedMemberEntity);
+            // 느린 요청 로그의 구간별 시간 (db 는 outbox 적재(enqueue)와 커밋을 포함)
+            probed = RequestTiming.record("validate", () -> validateDuplicateMember(request));
+            MemberEntity memberEntity = RequestTiming.record("hash", () -> createMemberEntity(request));
+            MemberEntity savedMemberEntity = RequestTiming.record("db", () -> transactionTemplate.execute(status -> {
+                MemberEntity saved = saveMember(memberEntity);
+                RequestTiming.record("enqueue", () -> sendJoinMessage(saved));
+                return saved;
+            }));
+            memberCache.evict(savedMemberEntity);
+            memberIdentifierFilter.put(savedMemberEntity.getUserId(), savedMemberEntity.getEmail(), savedMemberEntity.getContact());
             return memberMapper.toResponse(savedMemberEntity);
             
         } catch (DataIntegrityViolationException e) {
+            // Bloom filter 에 없던 값(다른 인스턴스에서 가입 등)의 unique 제약 위반은 DB 검사로 중복 항목을 확인
+            if (!probed) {
+                validateDuplicateMemberInDb(request);
+            }
             log.error("회원가입 DB 오류: {} - {}", request.getUserId(), e.getMessage());
             throw new MemberException(MemberErrorCode.DATABASE_ERROR, "DB 오류");
         } catch (MemberException e) {
@@ -52,7 +87,7 @@ public class MemberService {
 
     private MemberEntity createMemberEntity(MemberJoinRequest request) {
         MemberEntity memberEntity = memberMapper.toEntity(request);
-        memberEntity.setPassword(passwordEncoder.encode(request.getPassword()));
+        memberEntity.setPassword(passwordHashingService.encode(request.getPassword()));
         return memberEntity;
     }
 
@@ -60,41 +95,74 @@ public class MemberService {
         return memberRepository.save(memberEntity);
     }
 
+    // 회원 저장과 같은 트랜잭션에서 outbox 에 적재 (실제 발송은 MessageOutboxDispatcher)
     private void sendJoinMessage(MemberEntity memberEntity) {
-        try {
-            messageService.sendJoinMessage(memberEntity);
-        } catch (Exception e) {
-            log.error("회원가입 메시지 전송 실패: {} - {}", memberEntity.getUserId(), e.getMessage());
+        messageService.enqueueJoinMessage(memberEntity);
+    }
+
+    // Bloom filter 에 세 항목 모두 없으면 DB 조회 생략 - DB 를 조회했는지 반환
+    private boolean validateDuplicateMember(MemberJoinRequest request) {
+        if (!memberIdentifierFilter.mightContainAny(request.getUserId(), request.getEmail(), request.getContact())) {
+            return false;
         }
+        validateDuplicateMemberInDb(request);
+        return true;
+    }
+
+    private void validateDuplicateMemberInDb(MemberJoinRequest request) {
+        // userId / email / contact 를 한 번의 조회로 확인
+        checkDuplicates(memberRepository.probeDuplicates(
+                request.getUserId(), request.getEmail(), request.getContact()), request);
     }
 
-    private void validateDuplicateMember(MemberJoinRequest request) {
+    // 중복 검사 결과 확인 (우선순위는 userId > email > contact) - ReactiveMemberService 와 공유
+    static void checkDuplicates(MemberDuplicateProbe probe, MemberJoinRequest request) {
         // userId
-        if (memberRepository.findByUserId(request.getUserId()).isPresent()) {
+        if (probe.isUserIdTaken()) {
             throw new MemberException(MemberErrorCode.DUPLICATE_USER_ID, 
                 "이미 사용 중인 사용자 ID입니다: " + request.getUserId());
         }
         
         // email
-        if (memberRepository.findByEmail(request.getEmail()).isPresent()) {
+        if (probe.isEmailTaken()) {
             throw new MemberException(MemberErrorCode.DUPLICATE_EMAIL, 
                 "이미 사용 중인 이메일입니다: " + request.getEmail());
         }
         
         // contact
-        if (memberRepository.findByContact(request.getContact()).isPresent()) {
+        if (probe.isContactTaken()) {
             throw new MemberException(MemberErrorCode.DUPLICATE_CONTACT, 
                 "이미 사용 중인 연락처입니다: " + request.getContact());
         }
     }
 
-    @Transactional
+    /**
+     * 가입 전 userId / email / contact 사용 가능 여부 확인 (요청하지 않은 항목은 null)
+     * Bloom filter 는 노드마다 자기 노드의 가입만 반영하므로 "없음" 응답도 믿지 않고 항상 인덱스 조회로 확인
+     */
+    public MemberAvailabilityResponse checkAvailability(String userId, String email, String contact) {
+        return memberMetrics.record("checkAvailability", () -> MemberAvailabilityResponse.builder()
+                .userIdAvailable(userId == null ? null : !memberRepository.existsByUserId(userId))
+                .emailAvailable(email == null ? null : !memberRepository.existsByEmail(email))
+                .contactAvailable(contact == null ? null : !memberRepository.existsByContact(contact))
+                .build());
+    }
+
+    // 커밋 시간까지 메트릭에 포함되도록 트랜잭션을 메트릭 측정 구간 안에서 시작
     public void exit(String userId) {
+        memberMetrics.record("exit", () -> transactionTemplate.execute(status -> {
+            exitMember(userId);
+            return null;
+        }));
+    }
+
+    private void exitMember(String userId) {
         try {
             MemberEntity memberEntity = findAndValidateMember(userId);
             MemberEntity savedMemberEntity = deactivateMember(memberEntity);
             sendExitMessage(savedMemberEntity);
             deleteMessageHistory(memberEntity.getId());
+            memberCache.evictAfterCommit(savedMemberEntity);
             
         } catch (MemberException e) {
             throw e;
@@ -124,42 +192,126 @@ public class MemberService {
     }
 
     private void sendExitMessage(MemberEntity memberEntity) {
-        try {
-            messageService.sendExitMessage(memberEntity);
-        } catch (Exception e) {
-            log.error("회원탈퇴 메시지 전송 실패: {} - {}", memberEntity.getUserId(), e.getMessage());
-        }
+        messageService.enqueueExitMessage(memberEntity);
     }
 
     private void deleteMessageHistory(Long memberId) {
-        messageHistoryRepository.deleteByMemberId(memberId);
+        messageHistoryRepository.deleteAllByMemberIdIn(List.of(memberId));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 일괄 탈퇴 - 청크(1000명)마다 별도 트랜잭션으로 UPDATE / DELETE 를 한 번씩 실행
+     * 존재하지 않거나 이미 탈퇴한 사용자는 오류 없이 skipped 로 집계
+     */
+    public MemberBulkExitResponse bulkExit(List<String> userIds) {
+        return memberMetrics.record("bulkExit", () -> {
+            List<String> targets = userIds.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+
+            MemberBulkExitResponse total = MemberBulkExitResponse.builder()
+                    .requested(targets.size())
+                    .build();
+            for (int from = 0; from < targets.size(); from += BULK_EXIT_CHUNK_SIZE) {
+                List<String> chunk = targets.subList(from, Math.min(from + BULK_EXIT_CHUNK_SIZE, targets.size()));
+                MemberBulkExitResponse result = transactionTemplate.execute(status -> exitMembers(chunk));
+
+                total.setExited(total.getExited() + result.getExited());
+                total.setSkipped(total.getSkipped() + result.getSkipped());
+                total.setDeletedHistories(total.getDeletedHistories() + result.getDeletedHistories());
+            }
+
+            log.info("일괄 탈퇴 완료: requested={}, exited={}, skipped={}, deletedHistories={}",
+                    total.getRequested(), total.getExited(), total.getSkipped(), total.getDeletedHistories());
+            return total;
+        });
+    }
+
+    private MemberBulkExitResponse exitMembers(List<String> userIds) {
+        try {
+            List<MemberEntity> members = memberRepository.findActiveForUpdateByUserIdIn(userIds);
+            if (members.isEmpty()) {
+                return MemberBulkExitResponse.builder()
+                        .requested(userIds.size())
+                        .skipped(userIds.size())
+                        .build();
+            }
+
+            List<Long> memberIds = members.stream()
+                    .map(MemberEntity::getId)
+                    .toList();
+
+            // 비활성화 UPDATE 가 영속성 컨텍스트를 비우므로 outbox 적재를 먼저 수행
+            messageService.enqueueExitMessages(members);
+            int exited = memberRepository.deactivateAllByIdIn(memberIds, LocalDateTime.now());
+            int deletedHistories = messageHistoryRepository.deleteAllByMemberIdIn(memberIds);
+            memberCache.evictAllAfterCommit(members);
+
+            return MemberBulkExitResponse.builder()
+                    .requested(userIds.size())
+                    .exited(exited)
+                    .skipped(userIds.size() - exited)
+                    .deletedHistories(deletedHistories)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("일괄 탈퇴 중 예상치 못한 오류: chunkSize={} - {}", userIds.size(), e.getMessage());
+            throw new MemberException(MemberErrorCode.INTERNAL_SERVER_ERROR, "예상치 못한 오류.");
+        }
+    }
+
+    // 캐시 hit 시 트랜잭션(DB 커넥션) 없이 반환하도록 트랜잭션은 repository 조회에만 적용
     public MemberResponse findByUserId(String userId) {
-        return memberRepository.findByUserId(userId)
+        return memberMetrics.record("findByUserId", () -> memberCache.getByUserId(userId, key -> memberRepository.findByUserId(key)
                 .map(memberMapper::toResponse)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, 
-                    "존재하지 않는 사용자입니다: " + userId));
+                    "존재하지 않는 사용자입니다: " + key))));
     }
 
-    @Transactional(readOnly = true)
     public MemberResponse findByContact(String contact) {
-        return memberRepository.findByContact(contact)
+        return memberMetrics.record("findByContact", () -> memberCache.getByContact(contact, key -> memberRepository.findByContact(key)
                 .map(memberMapper::toResponse)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, 
-                    "존재하지 않는 연락처입니다: " + contact));
+                    "존재하지 않는 연락처입니다: " + key))));
     }
 
     @Transactional(readOnly = true)
     public Optional<MemberResponse> findByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .map(memberMapper::toResponse);
+        return memberMetrics.record("findByEmail", () -> memberRepository.findByEmail(email)
+                .map(memberMapper::toResponse));
+    }
+
+    @Transactional(readOnly = true)
+    public MemberPageResponse getActiveMembers(Long cursor, int size) {
+        return memberMetrics.record("getActiveMembers", () -> findActiveMemberPage(cursor, size));
+    }
+
+    private MemberPageResponse findActiveMemberPage(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Slice<MemberEntity> slice = memberRepository.findByActiveTrueAndIdGreaterThan(
+                cursor == null ? 0L : cursor, PageRequest.of(0, pageSize, Sort.by("id")));
+
+        List<MemberEntity> members = slice.getContent();
+        Long nextCursor = slice.hasNext() ? members.get(members.size() - 1).getId() : null;
+
+        return MemberPageResponse.builder()
+                .members(memberMapper.toActiveResponseList(members))
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
     }
 
+    // 한 건씩 변환해 넘기고 영속성 컨텍스트에서 분리하여, 회원 수와 관계없이 메모리 사용량을 일정하게 유지
     @Transactional(readOnly = true)
-    public List<MemberResponse> getAllActiveMembers() {
-        List<MemberEntity> activeMembers = memberRepository.findByActiveTrue();
-        return memberMapper.toActiveResponseList(activeMembers);
+    public void exportActiveMembers(Consumer<MemberResponse> consumer) {
+        memberMetrics.record("exportActiveMembers", () -> {
+            try (Stream<MemberEntity> members = memberRepository.streamActiveMembers()) {
+                members.forEach(member -> {
+                    consumer.accept(memberMapper.toResponse(member));
+                    entityManager.detach(member);
+                });
+            }
+        });
     }
 }
@@ -0,0 +1,27 @@
+package com.event.msalearningproject.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageCampaignScheduler {
+
+    private final MessageCampaignService messageCampaignService;
+
+    // 발송할 캠페인이 남지 않을 때까지 하나씩 선점해 발송
+    @Scheduled(fixedDelayString = "${member.message.campaign.poll-interval-ms:1000}")
+    public void run() {
+        try {
+            boolean claimed;
+            do {
+                claimed = messageCampaignService.runNext();
+            } while (claimed);
+        } catch (Exception e) {
+            log.error("캠페인 발송 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
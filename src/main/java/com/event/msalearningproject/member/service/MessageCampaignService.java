@@ -0,0 +1,224 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MessageCampaignRequest;
+import com.event.msalearningproject.member.dto.MessageCampaignResponse;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.repository.CampaignRecipient;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.MessageCampaignRepository;
+import com.event.msalearningproject.member.repository.entity.CampaignStatus;
+import com.event.msalearningproject.member.repository.entity.MessageCampaignEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캠페인 발송 - 조건(활성 + MessageType)에 맞는 회원 전체에 같은 내용을 발송
+ * 요청은 캠페인을 저장(PENDING)만 하고 바로 반환하며, 발송은 MessageCampaignScheduler 가 백그라운드에서 수행
+ * 1. 선점: 접수 / 선점 기한이 지난 캠페인 하나를 잠그고 선점 기한과 token 을 기록
+ * 2. 대상: id 커서로 pageSize 명씩 필요한 컬럼만 조회 (페이지 사이에 커넥션을 잡지 않음)
+ * 3. 발송: 게이트웨이 다건 API 단위(batchSize)로 묶어 동시에 발송 (MessageSenders.sendInBatches)
+ * 4. 이력 / 진행: 페이지 단위로 이력을 JDBC batch insert 하고 커서와 건수를 캠페인에 반영하면서 선점 연장
+ * 노드가 중간에 죽으면 선점 기한 뒤 다른 노드가 마지막으로 반영된 커서부터 이어서 발송
+ * (반영 전이던 한 페이지는 다시 발송될 수 있음), 실패 수신자는 MessageRetryService 가 건별로 재시도
+ */
+@Slf4j
+@Service
+public class MessageCampaignService {
+
+    private static final int CAMPAIGN_KEY_MAX_LENGTH = 100;
+
+    private final MemberRepository memberRepository;
+    private final MessageCampaignRepository messageCampaignRepository;
+    private final MessageSenders messageSenders;
+    private final MessageDeliveryService messageDeliveryService;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final long leaseTimeoutMs;
+
+    public MessageCampaignService(MemberRepository memberRepository,
+                                  MessageCampaignRepository messageCampaignRepository,
+                                  MessageSenders messageSenders,
+                                  MessageDeliveryService messageDeliveryService,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${member.message.campaign.page-size:5000}") int pageSize,
+                                  @Value("${member.message.campaign.lease-timeout-ms:300000}") long leaseTimeoutMs) {
+        this.memberRepository = memberRepository;
+        this.messageCampaignRepository = messageCampaignRepository;
+        this.messageSenders = messageSenders;
+        this.messageDeliveryService = messageDeliveryService;
+        this.transactionTemplate = transactionTemplate;
+        this.pageSize = pageSize;
+        this.leaseTimeoutMs = leaseTimeoutMs;
+    }
+
+    /**
+     * 캠페인 접수 - 같은 키로 다시 접수하면 새로 만들지 않고 처음 접수한 캠페인을 반환
+     *
+     * @param idempotencyKey 없으면 MessageType + 내용으로 만든 fingerprint 를 키로 사용
+     *                       (같은 내용을 다시 보내려면 새 Idempotency-Key 필요)
+     */
+    public MessageCampaignResponse submit(MessageCampaignRequest request, String idempotencyKey) {
+        String campaignKey = campaignKey(request, idempotencyKey);
+
+        MessageCampaignEntity existing = messageCampaignRepository.findByCampaignKey(campaignKey).orElse(null);
+        if (existing == null) {
+            try {
+                existing = messageCampaignRepository.saveAndFlush(MessageCampaignEntity.builder()
+                        .campaignKey(campaignKey)
+                        .messageType(request.getMessageType())
+                        .content(request.getContent())
+                        .status(CampaignStatus.PENDING)
+                        .requestId(MDC.get(RequestIdFilter.MDC_KEY))
+                        .build());
+                log.info("캠페인 접수: id={}, messageType={}", existing.getId(), existing.getMessageType());
+                return MessageCampaignResponse.from(existing);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 키의 동시 접수 - 먼저 저장된 캠페인을 반환
+                existing = messageCampaignRepository.findByCampaignKey(campaignKey).orElseThrow(() -> e);
+            }
+        }
+
+        if (existing.getMessageType() != request.getMessageType() || !existing.getContent().equals(request.getContent())) {
+            throw new MemberException(MemberErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        log.info("이미 접수된 캠페인: id={}, status={}", existing.getId(), existing.getStatus());
+        return MessageCampaignResponse.from(existing);
+    }
+
+    public MessageCampaignResponse find(Long id) {
+        return messageCampaignRepository.findById(id)
+                .map(MessageCampaignResponse::from)
+                .orElseThrow(() -> new MemberException(MemberErrorCode.CAMPAIGN_NOT_FOUND,
+                        "존재하지 않는 캠페인입니다: " + id));
+    }
+
+    /**
+     * 발송할 캠페인을 하나 선점해 끝까지(또는 선점을 잃을 때까지) 발송
+     *
+     * @return 선점한 캠페인이 있었는지 여부
+     */
+    public boolean runNext() {
+        MessageCampaignEntity campaign = claim();
+        if (campaign == null) {
+            return false;
+        }
+
+        // 접수한 요청의 id 로 발송 로그를 남김
+        MDC.put(RequestIdFilter.MDC_KEY, campaign.getRequestId());
+        try {
+            run(campaign);
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+        return true;
+    }
+
+    private MessageCampaignEntity claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MessageCampaignEntity> runnable = messageCampaignRepository.findRunnableForUpdate(now, PageRequest.of(0, 1));
+            if (runnable.isEmpty()) {
+                return null;
+            }
+
+            MessageCampaignEntity campaign = runnable.get(0);
+            if (campaign.getStatus() == CampaignStatus.RUNNING) {
+                log.warn("선점 기한이 지난 캠페인 이어서 발송: id={}, lastMemberId={}", campaign.getId(), campaign.getLastMemberId());
+            }
+            campaign.setStatus(CampaignStatus.RUNNING);
+            campaign.setLeaseToken(UUID.randomUUID().toString());
+            campaign.setLeaseUntil(leaseUntil(now));
+            return campaign;
+        });
+    }
+
+    private void run(MessageCampaignEntity campaign) {
+        MessageType messageType = campaign.getMessageType();
+        long startedAt = System.nanoTime();
+        long cursor = campaign.getLastMemberId();
+        int targeted = 0;
+        int sent = 0;
+
+        List<CampaignRecipient> recipients;
+        do {
+            recipients = memberRepository.findCampaignRecipients(messageType, cursor, PageRequest.of(0, pageSize));
+            if (recipients.isEmpty()) {
+                break;
+            }
+
+            List<MessageEvent> events = recipients.stream()
+                    .map(recipient -> toEvent(recipient, campaign))
+                    .toList();
+            List<MessageSenders.Result> results = messageSenders.sendInBatches(messageType, events);
+            messageDeliveryService.recordAll(results);
+
+            int pageSent = (int) results.stream().filter(MessageSenders.Result::isSent).count();
+            cursor = recipients.get(recipients.size() - 1).getId();
+            if (messageCampaignRepository.recordProgress(campaign.getId(), campaign.getLeaseToken(), cursor,
+                    recipients.size(), pageSent, recipients.size() - pageSent, leaseUntil(LocalDateTime.now())) == 0) {
+                log.warn("캠페인 선점을 다른 노드에 넘겨 발송 중단: id={}, lastMemberId={}", campaign.getId(), cursor);
+                return;
+            }
+
+            targeted += recipients.size();
+            sent += pageSent;
+            log.debug("캠페인 발송 진행: id={}, messageType={}, targeted={}, sent={}", campaign.getId(), messageType, targeted, sent);
+        } while (recipients.size() == pageSize);
+
+        messageCampaignRepository.complete(campaign.getId(), campaign.getLeaseToken(), LocalDateTime.now());
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("캠페인 발송 완료: id={}, messageType={}, targeted={}, sent={}, failed={}, elapsedMs={}",
+                campaign.getId(), messageType, campaign.getTargeted() + targeted, campaign.getSent() + sent,
+                campaign.getFailed() + targeted - sent, elapsedMs);
+    }
+
+    private LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plusNanos(leaseTimeoutMs * 1_000_000);
+    }
+
+    private MessageEvent toEvent(CampaignRecipient recipient, MessageCampaignEntity campaign) {
+        MessageType messageType = campaign.getMessageType();
+        return MessageEvent.builder()
+                .memberId(recipient.getId())
+                .userId(recipient.getUserId())
+                .messageType(messageType)
+                .recipient(messageType.recipientOf(recipient.getContact(), recipient.getEmail()))
+                .content(campaign.getContent())
+                .requestId(campaign.getRequestId())
+                .build();
+    }
+
+    private String campaignKey(MessageCampaignRequest request, String idempotencyKey) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            if (idempotencyKey.length() > CAMPAIGN_KEY_MAX_LENGTH) {
+                throw new IllegalArgumentException("Idempotency-Key 는 " + CAMPAIGN_KEY_MAX_LENGTH + "자 이하여야 합니다.");
+            }
+            return idempotencyKey;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((request.getMessageType().name() + "\n" + request.getContent()).getBytes(StandardCharsets.UTF_8));
+            return "content:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
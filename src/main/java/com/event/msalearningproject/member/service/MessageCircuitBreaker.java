@@ -0,0 +1,61 @@
+package com.event.msalearningproject.member.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게이트웨이 단위 circuit breaker
+ * - closed: 연속 실패가 failureThreshold 에 도달하면 open
+ * - open: openMs 동안 호출 차단
+ * - half-open: openMs 가 지나면 한 건만 통과시켜 성공 시 closed, 실패 시 다시 open
+ */
+class MessageCircuitBreaker {
+
+    private static final long CLOSED = -1;
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final LongSupplier clock;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(CLOSED);
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    MessageCircuitBreaker(int failureThreshold, long openMs, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened == CLOSED) {
+            return true;
+        }
+        if (clock.getAsLong() - opened < openMs) {
+            return false;
+        }
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(CLOSED);
+        trialInFlight.set(false);
+    }
+
+    void onFailure() {
+        if (trialInFlight.compareAndSet(true, false)) {
+            openedAt.set(clock.getAsLong());
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.compareAndSet(CLOSED, clock.getAsLong());
+        }
+    }
+
+    boolean isOpen() {
+        return openedAt.get() != CLOSED;
+    }
+}
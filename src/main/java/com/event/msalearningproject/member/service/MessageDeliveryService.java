@@ -0,0 +1,166 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageRetryProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.MessageHistoryRepository;
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageDeliveryService {
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 500;
+
+    private final MemberRepository memberRepository;
+    private final MessageHistoryRepository messageHistoryRepository;
+    private final MessageRetryProperties retryProperties;
+    private final MessageSenders messageSenders;
+    private final TransactionTemplate transactionTemplate;
+
+    // 메시지를 동시에 발송한 뒤 발송 이력을 JDBC batch 로 한 번에 저장 (발송은 트랜잭션 밖에서)
+    public List<MessageHistoryEntity> deliverAll(List<MessageEvent> events) {
+        List<MessageSenders.Result> results = messageSenders.sendAll(events);
+        // 같은 빈 안의 호출은 프록시를 거치지 않아 recordAll 의 @Transactional 이 적용되지 않으므로 직접 트랜잭션으로 묶음
+        return transactionTemplate.execute(status -> recordAll(results));
+    }
+
+    // 발송 결과를 이력으로 JDBC batch 저장 (실패 건은 재시도 대상으로 기록, 탈퇴 회원 건은 제외)
+    @Transactional
+    public List<MessageHistoryEntity> recordAll(List<MessageSenders.Result> results) {
+        Set<Long> exited = exitedMemberIds(results.stream()
+                .map(result -> result.event().getMemberId())
+                .collect(Collectors.toSet()));
+        List<MessageHistoryEntity> histories = new ArrayList<>(results.size());
+        for (MessageSenders.Result result : results) {
+            if (!exited.contains(result.event().getMemberId())) {
+                histories.add(historyOf(result));
+            } else if (!result.isSent()) {
+                log.warn("탈퇴 회원 메시지 전송 실패 (이력 미저장): userId={}, requestId={}, error={}",
+                        result.event().getUserId(), result.event().getRequestId(), result.error().getMessage());
+            }
+        }
+
+        return messageHistoryRepository.insertAll(histories);
+    }
+
+    // 발송 실패 시 예외를 그대로 던져 호출 측(AMQP 재시도/dead-letter)이 처리
+    public void deliverOrThrow(MessageEvent event) {
+        messageSenders.sendOrThrow(event);
+        if (!isExited(event)) {
+            messageHistoryRepository.save(toHistory(event)
+                    .sent(true)
+                    .build());
+        }
+    }
+
+    @Transactional
+    public void recordFailure(MessageEvent event, String errorMessage) {
+        if (!isExited(event)) {
+            messageHistoryRepository.save(failed(toHistory(event), errorMessage).build());
+        }
+    }
+
+    /**
+     * 실패 이력 재발송 - 발송만 수행하고 결과를 이력에 반영 (저장은 호출 측 MessageRetryService 에서 일괄 처리)
+     *
+     * @return 발송 성공 여부
+     */
+    public boolean resend(MessageHistoryEntity history) {
+        int attempts = history.getAttempts() + 1;
+        history.setAttempts(attempts);
+        try {
+            messageSenders.sendOrThrow(MessageEvent.builder()
+                    // 프록시의 id 는 초기화 없이 조회 가능
+                    .memberId(history.getMember().getId())
+                    // 회원은 선점 시 함께 읽어 둠 (MessageRetryService)
+                    .userId(history.getMember().getUserId())
+                    .messageType(history.getMessageType())
+                    .recipient(history.getTo())
+                    .content(history.getContent())
+                    .requestId(history.getRequestId())
+                    .build());
+            history.setSent(true);
+            history.setErrorMessage(null);
+            history.setNextAttemptAt(null);
+            return true;
+        } catch (Exception e) {
+            log.warn("메시지 재발송 실패: historyId={}, requestId={}, attempts={}, error={}",
+                    history.getId(), history.getRequestId(), attempts, e.getMessage());
+            history.setErrorMessage(truncate(e.getMessage()));
+            history.setNextAttemptAt(retryProperties.nextAttemptAt(attempts, LocalDateTime.now()));
+            return false;
+        }
+    }
+
+    /**
+     * 탈퇴(비활성) 회원의 발송 이력은 탈퇴 / 일괄 탈퇴 시 파기하므로, 파기 이후 발송되는 메시지(탈퇴 안내 등)의 이력도 남기지 않음
+     * (탈퇴 안내는 재시도 없이 발송 결과만 로그로 남김)
+     */
+    private Set<Long> exitedMemberIds(Set<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(memberRepository.findInactiveIdsIn(memberIds));
+    }
+
+    private boolean isExited(MessageEvent event) {
+        boolean exited = !exitedMemberIds(Set.of(event.getMemberId())).isEmpty();
+        if (exited) {
+            log.info("탈퇴 회원 메시지 - 발송 이력 저장 생략: userId={}, requestId={}", event.getUserId(), event.getRequestId());
+        }
+        return exited;
+    }
+
+    private MessageHistoryEntity historyOf(MessageSenders.Result result) {
+        MessageHistoryEntity.MessageHistoryEntityBuilder builder = toHistory(result.event());
+        if (result.isSent()) {
+            return builder.sent(true).build();
+        }
+
+        log.error("메시지 전송 실패: userId={}, requestId={}, error={}",
+                result.event().getUserId(), result.event().getRequestId(), result.error().getMessage());
+
+        // 배치 발송에서는 한 건의 실패가 나머지 발송을 막지 않도록 이력에만 남김 (MessageRetryService 가 재시도)
+        return failed(builder, result.error().getMessage()).build();
+    }
+
+    private MessageHistoryEntity.MessageHistoryEntityBuilder failed(
+            MessageHistoryEntity.MessageHistoryEntityBuilder builder, String errorMessage) {
+        return builder.sent(false)
+                .errorMessage(truncate(errorMessage))
+                .nextAttemptAt(retryProperties.nextAttemptAt(1, LocalDateTime.now()));
+    }
+
+    private MessageHistoryEntity.MessageHistoryEntityBuilder toHistory(MessageEvent event) {
+        return MessageHistoryEntity.builder()
+                // 연관관계 설정에는 id 만 필요하므로 회원을 조회하지 않고 프록시로 연결
+                .member(memberRepository.getReferenceById(event.getMemberId()))
+                .messageType(event.getMessageType())
+                .content(event.getContent())
+                .to(event.getRecipient())
+                .requestId(event.getRequestId())
+                .attempts(1);
+    }
+
+    // message_history.error_message 컬럼 길이(500)에 맞춤
+    private String truncate(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= ERROR_MESSAGE_MAX_LENGTH) {
+            return errorMessage;
+        }
+        return errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,53 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * MessageType 별 발송 메트릭
+ * - message.send (timer): message_type, outcome
+ * - message.sent (counter): message_type, result(success / failure)
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordSend(MessageType messageType, Runnable send) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            send.run();
+        } catch (RuntimeException e) {
+            result = "failure";
+            throw e;
+        } finally {
+            stop(sample, messageType, result, 1);
+        }
+    }
+
+    // 비동기 발송 (MessageSender) - 구독 시점부터 완료/실패 시점까지 측정
+    public Mono<Void> recordSend(MessageType messageType, Mono<Void> send) {
+        return recordSend(messageType, 1, send);
+    }
+
+    // 다건 발송 - 요청 한 번의 소요 시간을 기록하고 message.sent 는 수신자 수만큼 증가
+    public Mono<Void> recordSend(MessageType messageType, int recipients, Mono<Void> send) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return send.doOnSuccess(done -> stop(sample, messageType, "success", recipients))
+                    .doOnError(e -> stop(sample, messageType, "failure", recipients));
+        });
+    }
+
+    private void stop(Timer.Sample sample, MessageType messageType, String result, int recipients) {
+        String type = messageType == null ? "UNKNOWN" : messageType.name();
+        sample.stop(meterRegistry.timer("message.send", "message_type", type, "outcome", result));
+        meterRegistry.counter("message.sent", "message_type", type, "result", result).increment(recipients);
+    }
+}
@@ -0,0 +1,31 @@
+package com.event.msalearningproject.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageOutboxDispatcher {
+
+    private final MessageService messageService;
+
+    @Value("${member.message.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 한 배치가 가득 차면 outbox 가 비워질 때까지 연속으로 처리
+    @Scheduled(fixedDelayString = "${member.message.outbox.poll-interval-ms:200}")
+    public void drain() {
+        try {
+            int dispatched;
+            do {
+                dispatched = messageService.dispatchOutbox(batchSize);
+            } while (dispatched == batchSize);
+        } catch (Exception e) {
+            log.error("outbox 메시지 발송 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MessageEvent;
+
+import java.util.List;
+
+/**
+ * outbox 에서 꺼낸 메시지를 발송 경로로 넘기는 역할
+ * (member.message.dispatch-mode 설정에 따라 구현체 선택)
+ */
+public interface MessagePublisher {
+
+    void publish(List<MessageEvent> events);
+}
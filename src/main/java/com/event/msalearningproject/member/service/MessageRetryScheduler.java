@@ -0,0 +1,33 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageRetryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.message.retry.enabled", havingValue = "true", matchIfMissing = true)
+public class MessageRetryScheduler {
+
+    private final MessageRetryService messageRetryService;
+    private final MessageRetryProperties retryProperties;
+
+    // 한 페이지가 가득 차면 재시도 대상이 남지 않을 때까지 연속으로 처리
+    @Scheduled(fixedDelayString = "${member.message.retry.poll-interval-ms:1000}")
+    public void retry() {
+        try {
+            int retried;
+            do {
+                retried = messageRetryService.retryDue();
+            } while (retried == retryProperties.getPageSize());
+
+            messageRetryService.refreshBacklog();
+        } catch (Exception e) {
+            log.error("메시지 재시도 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
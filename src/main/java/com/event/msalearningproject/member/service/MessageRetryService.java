@@ -0,0 +1,147 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageRetryProperties;
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.MessageHistoryRepository;
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 발송 실패 이력 재시도
+ * 1. 선점: 재시도 시각이 지난 이력을 id 순으로 pageSize 건 잠그고, 다음 재시도 시각을 claimTimeout 뒤로 미룬 뒤 커밋
+ * 2. 발송: 트랜잭션 없이 MessageType 별로 병렬 재발송
+ * 3. 반영: 결과(성공 / 다음 재시도 시각 / 최대 시도 도달)를 한 트랜잭션에서 batch update
+ */
+@Slf4j
+@Service
+public class MessageRetryService {
+
+    private final MessageHistoryRepository messageHistoryRepository;
+    private final MemberRepository memberRepository;
+    private final MessageDeliveryService messageDeliveryService;
+    private final MessageRetryProperties retryProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor messageRetryExecutor;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public MessageRetryService(MessageHistoryRepository messageHistoryRepository,
+                               MemberRepository memberRepository,
+                               MessageDeliveryService messageDeliveryService,
+                               MessageRetryProperties retryProperties,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("messageRetryExecutor") AsyncTaskExecutor messageRetryExecutor,
+                               MeterRegistry meterRegistry) {
+        this.messageHistoryRepository = messageHistoryRepository;
+        this.memberRepository = memberRepository;
+        this.messageDeliveryService = messageDeliveryService;
+        this.retryProperties = retryProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.messageRetryExecutor = messageRetryExecutor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("message.retry.backlog", backlog, AtomicLong::get)
+                .description("재시도 대기 중인 발송 실패 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도 시각이 지난 이력을 한 페이지 선점해 재발송
+     *
+     * @return 처리한 건수
+     */
+    public int retryDue() {
+        List<MessageHistoryEntity> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<MessageType, List<MessageHistoryEntity>> byType = claimed.stream()
+                .collect(Collectors.groupingBy(MessageHistoryEntity::getMessageType,
+                        () -> new EnumMap<>(MessageType.class), Collectors.toList()));
+
+        CompletableFuture.allOf(byType.entrySet().stream()
+                        .map(entry -> messageRetryExecutor.submitCompletable(() -> resendAll(entry.getKey(), entry.getValue())))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        complete(claimed);
+        return claimed.size();
+    }
+
+    public void refreshBacklog() {
+        backlog.set(messageHistoryRepository.countRetryBacklog());
+    }
+
+    private List<MessageHistoryEntity> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MessageHistoryEntity> due = messageHistoryRepository.findRetryableForUpdate(
+                    now, PageRequest.of(0, retryProperties.getPageSize()));
+
+            // 커밋 시 batch update 로 선점 표시 (잠금은 커밋과 함께 해제)
+            LocalDateTime leaseUntil = now.plusNanos(retryProperties.getClaimTimeoutMs() * 1_000_000);
+            due.forEach(history -> history.setNextAttemptAt(leaseUntil));
+
+            // 재발송 시 userId 가 필요하므로 분리되기 전에 회원 프록시를 한 번의 조회로 초기화
+            // (회원 행은 잠그지 않도록 선점 쿼리와 분리)
+            memberRepository.findAllById(due.stream()
+                    .map(history -> history.getMember().getId())
+                    .collect(Collectors.toSet()));
+            return due;
+        });
+    }
+
+    private void resendAll(MessageType messageType, List<MessageHistoryEntity> histories) {
+        for (MessageHistoryEntity history : histories) {
+            // 처음 발송한 요청의 id 로 재발송 로그를 남김
+            MDC.put(RequestIdFilter.MDC_KEY, history.getRequestId());
+            boolean sent;
+            try {
+                sent = messageDeliveryService.resend(history);
+            } finally {
+                MDC.remove(RequestIdFilter.MDC_KEY);
+            }
+            String result = sent ? "sent" : history.getNextAttemptAt() == null ? "exhausted" : "failed";
+            meterRegistry.counter("message.retry.processed", "message_type", messageType.name(), "result", result)
+                    .increment();
+        }
+    }
+
+    // 선점 후 분리된 엔티티의 결과를 한 번의 조회로 다시 읽은 엔티티에 옮겨 dirty checking 으로 batch update
+    private void complete(List<MessageHistoryEntity> results) {
+        Map<Long, MessageHistoryEntity> resultById = results.stream()
+                .collect(Collectors.toMap(MessageHistoryEntity::getId, Function.identity()));
+
+        transactionTemplate.executeWithoutResult(status ->
+                messageHistoryRepository.findAllById(resultById.keySet()).forEach(history -> {
+                    MessageHistoryEntity result = resultById.get(history.getId());
+                    history.setSent(result.isSent());
+                    history.setAttempts(result.getAttempts());
+                    history.setErrorMessage(result.getErrorMessage());
+                    history.setNextAttemptAt(result.getNextAttemptAt());
+                }));
+
+        log.info("메시지 재시도 완료: count={}, sent={}", results.size(),
+                results.stream().filter(MessageHistoryEntity::isSent).count());
+    }
+}
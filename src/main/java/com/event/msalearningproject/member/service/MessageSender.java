@@ -0,0 +1,39 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * MessageType 별 외부 게이트웨이 발송 adapter
+ * 호출 스레드를 점유하지 않도록 발송 결과를 Mono 로 돌려줌 (실패는 MessageSendException)
+ */
+public interface MessageSender {
+
+    MessageType messageType();
+
+    Mono<Void> send(MessageEvent event);
+
+    // 한 번의 요청으로 보낼 수 있는 최대 수신자 수 (1 이면 건별 발송)
+    default int batchSize() {
+        return 1;
+    }
+
+    // 동시에 진행할 수 있는 최대 요청 수 (MessageSenders.sendAll 의 동시 발송 상한)
+    default int maxInFlight() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 같은 내용을 여러 수신자에게 한 번의 요청으로 발송 (캠페인)
+     * 요청 단위로 성공/실패하며, 실패한 수신자는 발송 이력을 통해 건별로 재시도
+     */
+    default Mono<Void> sendBatch(List<MessageEvent> events) {
+        return Flux.fromIterable(events)
+                .concatMap(this::send)
+                .then();
+    }
+}
@@ -0,0 +1,119 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MessageType 별 MessageSender 선택과 발송 메트릭 기록
+ * 게이트웨이가 비활성화되어 adapter 가 없는 MessageType 은 로그만 남기고 성공 처리
+ * DB 트랜잭션 밖에서 호출 (발송 대기 중 DB 커넥션을 점유하지 않도록)
+ */
+@Slf4j
+@Component
+public class MessageSenders {
+
+    private final Map<MessageType, MessageSender> senders = new EnumMap<>(MessageType.class);
+    private final MessageMetrics messageMetrics;
+    private final MessageGatewayProperties gatewayProperties;
+
+    public MessageSenders(List<MessageSender> senders, MessageMetrics messageMetrics,
+                          MessageGatewayProperties gatewayProperties) {
+        senders.forEach(sender -> this.senders.put(sender.messageType(), sender));
+        this.messageMetrics = messageMetrics;
+        this.gatewayProperties = gatewayProperties;
+    }
+
+    public Mono<Void> send(MessageEvent event) {
+        MessageSender sender = senders.get(event.getMessageType());
+        Mono<Void> send = sender != null
+                ? sender.send(event)
+                : Mono.fromRunnable(() -> log.info("메시지 전송: userId={}, messageType={}, recipient={}, content={}, requestId={}",
+                        event.getUserId(), event.getMessageType(), event.getRecipient(), event.getContent(),
+                        event.getRequestId()));
+        return messageMetrics.recordSend(event.getMessageType(), send);
+    }
+
+    // 한 건 발송 후 결과 대기 (실패 시 MessageSendException)
+    public void sendOrThrow(MessageEvent event) {
+        send(event).block();
+    }
+
+    /**
+     * 여러 건을 MessageType 별로 최대 min(maxConcurrency, 게이트웨이 maxInFlight) 건씩 동시에 발송하고 결과를 요청 순서대로 반환
+     * 배치가 게이트웨이 bulkhead 한도보다 커도 초과분이 즉시 거절되지 않도록 한도 안에서 나눠 발송
+     * 한 건의 실패가 나머지 발송을 막지 않음
+     */
+    public List<Result> sendAll(List<MessageEvent> events) {
+        Result[] results = new Result[events.size()];
+        Map<MessageType, List<Integer>> indexesByType = new EnumMap<>(MessageType.class);
+        for (int i = 0; i < events.size(); i++) {
+            indexesByType.computeIfAbsent(events.get(i).getMessageType(), type -> new ArrayList<>()).add(i);
+        }
+
+        Flux.fromIterable(indexesByType.entrySet())
+                .flatMap(entry -> Flux.fromIterable(entry.getValue())
+                                .flatMap(i -> sendResult(events.get(i)).doOnNext(result -> results[i] = result),
+                                        concurrency(entry.getKey())),
+                        Math.max(indexesByType.size(), 1))
+                .then()
+                .block();
+        return Arrays.asList(results);
+    }
+
+    private Mono<Result> sendResult(MessageEvent event) {
+        return send(event)
+                .thenReturn(new Result(event, null))
+                .onErrorResume(e -> Mono.just(new Result(event, e)));
+    }
+
+    private int concurrency(MessageType messageType) {
+        MessageSender sender = senders.get(messageType);
+        int maxConcurrency = gatewayProperties.getMaxConcurrency();
+        return Math.max(1, sender == null ? maxConcurrency : Math.min(maxConcurrency, sender.maxInFlight()));
+    }
+
+    /**
+     * 같은 내용의 메시지를 게이트웨이의 다건 발송 단위(batchSize)로 묶어 batchConcurrency 개씩 동시에 발송
+     * 묶음 요청이 실패하면 그 묶음의 모든 수신자를 실패로 반환
+     */
+    public List<Result> sendInBatches(MessageType messageType, List<MessageEvent> events) {
+        MessageSender sender = senders.get(messageType);
+        int batchSize = sender == null ? Math.max(events.size(), 1) : Math.max(sender.batchSize(), 1);
+
+        return Flux.fromIterable(events)
+                .buffer(batchSize)
+                .flatMapSequential(batch -> sendBatch(sender, messageType, batch)
+                                .thenReturn(batch.stream().map(event -> new Result(event, null)).toList())
+                                .onErrorResume(e -> Mono.just(batch.stream().map(event -> new Result(event, e)).toList())),
+                        gatewayProperties.getBatchConcurrency())
+                .flatMapIterable(results -> results)
+                .collectList()
+                .block();
+    }
+
+    private Mono<Void> sendBatch(MessageSender sender, MessageType messageType, List<MessageEvent> batch) {
+        Mono<Void> send = sender != null
+                ? sender.sendBatch(batch)
+                : Mono.fromRunnable(() -> log.info("메시지 다건 전송: messageType={}, recipients={}, content={}",
+                        messageType, batch.size(), batch.get(0).getContent()));
+        return messageMetrics.recordSend(messageType, batch.size(), send);
+    }
+
+    public record Result(MessageEvent event, Throwable error) {
+
+        public boolean isSent() {
+            return error == null;
+        }
+    }
+}
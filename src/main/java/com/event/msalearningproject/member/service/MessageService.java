@@ -1,69 +1,123 @@
 package com.event.msalearningproject.member.service;
 
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.MessageOutboxRepository;
 import com.event.msalearningproject.member.repository.entity.MemberEntity;
-import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
-import com.event.msalearningproject.member.repository.entity.MessageType;
-import com.event.msalearningproject.member.repository.MessageHistoryRepository;
-import lombok.RequiredArgsConstructor;
+import com.event.msalearningproject.member.repository.entity.MessageOutboxEntity;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MessageService {
 
-    private final MessageHistoryRepository messageHistoryRepository;
+    static final String JOIN_MESSAGE = "회원가입을 축하합니다!";
+    static final String EXIT_MESSAGE = "회원탈퇴가 완료되었습니다.";
+
+    private final MessageOutboxRepository messageOutboxRepository;
+    private final MessagePublisher messagePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long claimTimeoutMs;
 
-    public void sendJoinMessage(MemberEntity memberEntity) {
-        sendMessage(memberEntity, "회원가입을 축하합니다!");
+    public MessageService(MessageOutboxRepository messageOutboxRepository,
+                          MessagePublisher messagePublisher,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${member.message.outbox.claim-timeout-ms:60000}") long claimTimeoutMs) {
+        this.messageOutboxRepository = messageOutboxRepository;
+        this.messagePublisher = messagePublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.claimTimeoutMs = claimTimeoutMs;
     }
 
-    public void sendExitMessage(MemberEntity memberEntity) {
-        sendMessage(memberEntity, "회원탈퇴가 완료되었습니다.");
+    // 회원 트랜잭션 안에서 outbox 에 적재만 하고, 실제 발송은 MessageOutboxDispatcher 가 처리
+    public void enqueueJoinMessage(MemberEntity memberEntity) {
+        enqueueMessage(memberEntity, JOIN_MESSAGE);
     }
 
-    private void sendMessage(MemberEntity memberEntity, String content) {
-        
-        String recipient = getRecipientByMessageType(memberEntity);
-        
-        MessageHistoryEntity.MessageHistoryEntityBuilder builder = MessageHistoryEntity.builder()
+    public void enqueueExitMessage(MemberEntity memberEntity) {
+        enqueueMessage(memberEntity, EXIT_MESSAGE);
+    }
+
+    // 일괄 가입 - 가입 메시지는 outbox 에 batch insert 로 적재하고 MessageOutboxDispatcher 가 배치로 발송
+    public void enqueueJoinMessages(List<MemberEntity> memberEntities) {
+        messageOutboxRepository.saveAll(memberEntities.stream()
+                .map(memberEntity -> toOutbox(memberEntity, JOIN_MESSAGE))
+                .toList());
+    }
+
+    // 일괄 탈퇴 - outbox 적재를 JDBC batch insert 로 묶음
+    public void enqueueExitMessages(List<MemberEntity> memberEntities) {
+        messageOutboxRepository.saveAll(memberEntities.stream()
+                .map(memberEntity -> toOutbox(memberEntity, EXIT_MESSAGE))
+                .toList());
+    }
+
+    private void enqueueMessage(MemberEntity memberEntity, String content) {
+        messageOutboxRepository.save(toOutbox(memberEntity, content));
+    }
+
+    private MessageOutboxEntity toOutbox(MemberEntity memberEntity, String content) {
+        return MessageOutboxEntity.builder()
                 .member(memberEntity)
+                .userId(memberEntity.getUserId())
                 .messageType(memberEntity.getMessageType())
                 .content(content)
-                .to(recipient);
+                .recipient(getRecipientByMessageType(memberEntity))
+                .requestId(MDC.get(RequestIdFilter.MDC_KEY))
+                .build();
+    }
+
+    /**
+     * outbox 를 id 순으로 최대 batchSize 건 선점해 MessagePublisher 로 넘긴 뒤 선점한 행만 outbox 에서 제거
+     * 1. 선점: 선점 기한이 없거나 지난 행을 잠그고 (SKIP LOCKED) 선점 기한을 claimTimeout 뒤로 미룬 뒤 커밋
+     * 2. 발행: 트랜잭션 없이 발행 (direct 모드의 게이트웨이 호출 동안 DB 커넥션을 잡지 않음)
+     * 3. 삭제: 발행에 성공하면 선점한 행을 삭제, 실패하면 선점을 풀어 다음 주기에 다시 발행
+     * 발행 도중 노드가 죽으면 선점 기한 뒤 다른 노드가 다시 발행
+     *
+     * @return 처리한 건수
+     */
+    public int dispatchOutbox(int batchSize) {
+        List<MessageOutboxEntity> outbox = claim(batchSize);
+        if (outbox.isEmpty()) {
+            return 0;
+        }
 
         try {
-            
-            log.info("메시지 전송: userId={}, messageType={}, recipient={}, content={}", 
-                    memberEntity.getUserId(), memberEntity.getMessageType(), recipient, content);
-            
-            // TODO: 실제 메시지 전송 로직 구현
-            
-            // 성공
-            builder.sent(true);
-            
-        } catch (Exception e) {
-            log.error("메시지 전송 실패: userId={}, error={}", 
-                    memberEntity.getUserId(), e.getMessage());
-            
-            // 실패
-            builder.sent(false);
-            builder.errorMessage(e.getMessage());
-            
-            throw new RuntimeException("메시지 전송 실패", e);
-        } finally {
-            messageHistoryRepository.save(builder.build());
+            messagePublisher.publish(outbox.stream()
+                    .map(MessageEvent::from)
+                    .toList());
+        } catch (RuntimeException e) {
+            messageOutboxRepository.releaseClaim(outbox.stream().map(MessageOutboxEntity::getId).toList());
+            throw e;
         }
+
+        messageOutboxRepository.deleteAllInBatch(outbox);
+        return outbox.size();
+    }
+
+    private List<MessageOutboxEntity> claim(int batchSize) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MessageOutboxEntity> claimable = messageOutboxRepository.findClaimableForUpdate(
+                    now, PageRequest.of(0, batchSize));
+
+            // 커밋 시 batch update 로 선점 표시 (잠금은 커밋과 함께 해제)
+            LocalDateTime claimedUntil = now.plusNanos(claimTimeoutMs * 1_000_000);
+            claimable.forEach(outbox -> outbox.setClaimedUntil(claimedUntil));
+            return claimable;
+        });
     }
 
     // 메시지 타입에 따른 수신 설정
     private String getRecipientByMessageType(MemberEntity memberEntity) {
-        MessageType messageType = memberEntity.getMessageType();
-        
-        return switch (messageType) {
-            case SMS, KAKAO, PUSH -> memberEntity.getContact();  // 연락처 사용
-            case EMAIL -> memberEntity.getEmail();               // 이메일 사용
-        };
+        return memberEntity.getMessageType().recipientOf(memberEntity.getContact(), memberEntity.getEmail());
     }
 }
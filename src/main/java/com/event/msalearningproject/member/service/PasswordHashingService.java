@@ -0,0 +1,113 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해싱을 전용 executor 에서 수행
+ * 큐가 가득 차면 즉시 거절하여(backpressure) 요청 스레드와 DB 커넥션이 해싱 대기로 묶이지 않도록 함
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final long timeoutMs;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${member.security.hashing.timeout-ms:2000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.timeoutMs = timeoutMs;
+
+        this.hashTimer = Timer.builder("member.password.hash")
+                .description("비밀번호 해싱 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("member.password.hash.rejected")
+                .description("해싱 큐 포화로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("member.password.hash.queue", passwordHashingExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("해싱 대기 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder("member.password.hash.active", passwordHashingExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        Future<String> future = submit(rawPassword);
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해싱 대기 시간 초과: timeoutMs={}", timeoutMs);
+            throw new MemberException(MemberErrorCode.SERVICE_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberException(MemberErrorCode.INTERNAL_SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            throw new MemberException(MemberErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    // 호출 스레드를 블로킹하지 않는 버전 (reactive API) - 거절/시간 초과는 MemberException(SERVICE_BUSY) 로 완료
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        CompletableFuture<String> future;
+        try {
+            future = submit(rawPassword);
+        } catch (MemberException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .handle((encoded, error) -> {
+                    if (error == null) {
+                        return encoded;
+                    }
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        future.cancel(true);
+                        log.warn("비밀번호 해싱 대기 시간 초과: timeoutMs={}", timeoutMs);
+                        throw new MemberException(MemberErrorCode.SERVICE_BUSY);
+                    }
+                    throw new MemberException(MemberErrorCode.INTERNAL_SERVER_ERROR, cause);
+                });
+    }
+
+    private CompletableFuture<String> submit(String rawPassword) {
+        try {
+            return passwordHashingExecutor.submitCompletable(
+                    () -> hashTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 큐 포화: queueSize={}", passwordHashingExecutor.getThreadPoolExecutor().getQueue().size());
+            throw new MemberException(MemberErrorCode.SERVICE_BUSY);
+        }
+    }
+}
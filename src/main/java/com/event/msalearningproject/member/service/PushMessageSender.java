@@ -0,0 +1,39 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+
+// 앱 푸시 게이트웨이 (recipient: 연락처 기반 디바이스 식별자)
+@Component
+@ConditionalOnProperty(prefix = "member.message.gateway", name = "enabled", havingValue = "true")
+public class PushMessageSender extends WebClientMessageSender {
+
+    public PushMessageSender(WebClient.Builder webClientBuilder, MessageGatewayProperties properties,
+                             MeterRegistry meterRegistry) {
+        super(MessageType.PUSH, webClientBuilder, properties, meterRegistry);
+    }
+
+    @Override
+    protected Object body(MessageEvent event) {
+        return Map.of(
+                "target", event.getRecipient(),
+                "title", "회원 알림",
+                "body", event.getContent());
+    }
+
+    @Override
+    protected Object batchBody(List<MessageEvent> events) {
+        return Map.of(
+                "targets", events.stream().map(MessageEvent::getRecipient).toList(),
+                "title", "회원 알림",
+                "body", events.get(0).getContent());
+    }
+}
@@ -0,0 +1,105 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.mapper.MemberMapper;
+import com.event.msalearningproject.member.repository.ReactiveMemberRepository;
+import com.event.msalearningproject.member.repository.ReactiveMemberWriter;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MemberRecord;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * MemberService 의 reactive(R2DBC) 버전 - join / 조회 / 탈퇴 / 활성 회원 스트리밍
+ * 이벤트 루프 스레드를 블로킹하지 않도록 비밀번호 해싱은 해싱 전용 executor 의 future 로 연결
+ * 회원 캐시(MemberCache)와 Hibernate 2차 캐시는 MVC 조회 경로용이므로 여기서는 변경 시 제거만 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveMemberService {
+
+    private final ReactiveMemberRepository reactiveMemberRepository;
+    private final ReactiveMemberWriter reactiveMemberWriter;
+    private final PasswordHashingService passwordHashingService;
+    private final MemberMapper memberMapper;
+    private final MemberCache memberCache;
+    private final MemberIdentifierFilter memberIdentifierFilter;
+    private final TransactionalOperator reactiveTransactionalOperator;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public Mono<MemberResponse> join(MemberJoinRequest request) {
+        return reactiveMemberRepository.probeDuplicates(request.getUserId(), request.getEmail(), request.getContact())
+                .doOnNext(probe -> MemberService.checkDuplicates(probe, request))
+                .then(Mono.fromFuture(() -> passwordHashingService.encodeAsync(request.getPassword())))
+                .flatMap(encodedPassword -> {
+                    MemberRecord member = memberMapper.toRecord(request);
+                    member.setPassword(encodedPassword);
+
+                    // 회원 저장과 outbox 적재를 한 트랜잭션으로 (해싱은 트랜잭션 밖에서 완료)
+                    return reactiveMemberWriter.insert(member)
+                            .flatMap(saved -> reactiveMemberWriter.enqueueMessage(saved, MessageService.JOIN_MESSAGE)
+                                    .thenReturn(saved))
+                            .as(reactiveTransactionalOperator::transactional);
+                })
+                .doOnNext(this::evict)
+                .doOnNext(saved -> memberIdentifierFilter.put(saved.getUserId(), saved.getEmail(), saved.getContact()))
+                .map(memberMapper::toResponse)
+                .onErrorMap(DataIntegrityViolationException.class, e -> {
+                    log.error("회원가입 DB 오류: {} - {}", request.getUserId(), e.getMessage());
+                    return new MemberException(MemberErrorCode.DATABASE_ERROR, "DB 오류");
+                });
+    }
+
+    public Mono<MemberResponse> findByUserId(String userId) {
+        return reactiveMemberRepository.findByUserId(userId)
+                .switchIfEmpty(Mono.error(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND,
+                        "존재하지 않는 사용자입니다: " + userId)))
+                .map(memberMapper::toResponse);
+    }
+
+    public Mono<Void> exit(String userId) {
+        return reactiveMemberRepository.findByUserId(userId)
+                .switchIfEmpty(Mono.error(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND,
+                        "존재하지 않는 사용자입니다: " + userId)))
+                .flatMap(member -> {
+                    if (!member.isActive()) {
+                        return Mono.error(new MemberException(MemberErrorCode.ALREADY_EXITED,
+                                "이미 탈퇴한 사용자입니다: " + userId));
+                    }
+                    return reactiveMemberRepository.deactivate(member.getId(), LocalDateTime.now())
+                            .flatMap(updated -> updated == 0
+                                    // 조회 후 다른 요청이 먼저 탈퇴 처리한 경우
+                                    ? Mono.error(new MemberException(MemberErrorCode.ALREADY_EXITED,
+                                            "이미 탈퇴한 사용자입니다: " + userId))
+                                    : reactiveMemberWriter.enqueueMessage(member, MessageService.EXIT_MESSAGE))
+                            .then(reactiveMemberWriter.deleteHistories(member.getId()))
+                            .thenReturn(member);
+                })
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(this::evict)
+                // R2DBC 로 변경하여 Hibernate 가 알 수 없으므로 2차 캐시의 엔티티도 제거 (userId -> id natural-id 는 그대로 유효)
+                .doOnNext(member -> entityManagerFactory.getCache().evict(MemberEntity.class, member.getId()))
+                .then();
+    }
+
+    public Flux<MemberResponse> streamActiveMembers() {
+        return reactiveMemberRepository.streamActiveMembers()
+                .map(memberMapper::toResponse);
+    }
+
+    private void evict(MemberRecord member) {
+        memberCache.evict(member.getUserId(), member.getContact());
+    }
+}
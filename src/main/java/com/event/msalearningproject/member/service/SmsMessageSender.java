@@ -0,0 +1,38 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+
+// 문자 게이트웨이
+@Component
+@ConditionalOnProperty(prefix = "member.message.gateway", name = "enabled", havingValue = "true")
+public class SmsMessageSender extends WebClientMessageSender {
+
+    public SmsMessageSender(WebClient.Builder webClientBuilder, MessageGatewayProperties properties,
+                            MeterRegistry meterRegistry) {
+        super(MessageType.SMS, webClientBuilder, properties, meterRegistry);
+    }
+
+    @Override
+    protected Object body(MessageEvent event) {
+        return Map.of(
+                "to", event.getRecipient(),
+                "text", event.getContent());
+    }
+
+    // 동보 문자 - 같은 내용을 여러 번호로
+    @Override
+    protected Object batchBody(List<MessageEvent> events) {
+        return Map.of(
+                "to", events.stream().map(MessageEvent::getRecipient).toList(),
+                "text", events.get(0).getContent());
+    }
+}
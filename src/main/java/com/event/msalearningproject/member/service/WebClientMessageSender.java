@@ -0,0 +1,155 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.exception.MessageSendException;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * WebClient 기반 게이트웨이 adapter 공통 처리
+ * - 게이트웨이마다 별도 커넥션 풀 (한 게이트웨이의 지연이 다른 게이트웨이의 커넥션을 소진하지 않도록)
+ * - 연결 / 응답 / 전체 제한 시간
+ * - bulkhead: 진행 중인 요청이 maxInFlight 이상이면 대기 없이 실패
+ * - circuit breaker: 연속 실패 시 일정 시간 호출 차단 (4xx 는 게이트웨이 장애로 보지 않음)
+ */
+@Slf4j
+public abstract class WebClientMessageSender implements MessageSender, DisposableBean {
+
+    private final MessageType messageType;
+    private final MessageGatewayProperties.Provider provider;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Semaphore bulkhead;
+    private final MessageCircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejected;
+    private final Counter circuitRejected;
+
+    protected WebClientMessageSender(MessageType messageType,
+                                     WebClient.Builder webClientBuilder,
+                                     MessageGatewayProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.messageType = messageType;
+        this.provider = properties.provider(messageType);
+
+        this.connectionProvider = ConnectionProvider.builder("message-" + messageType.name().toLowerCase())
+                .maxConnections(provider.getMaxConnections())
+                .pendingAcquireMaxCount(provider.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(provider.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(provider.getMaxIdleTimeMs()))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, provider.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(provider.getResponseTimeoutMs()));
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(provider.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        this.bulkhead = new Semaphore(provider.getMaxInFlight());
+        this.circuitBreaker = new MessageCircuitBreaker(
+                provider.getFailureThreshold(), provider.getOpenMs(), System::currentTimeMillis);
+
+        String type = messageType.name();
+        this.bulkheadRejected = meterRegistry.counter("message.gateway.rejected", "message_type", type, "reason", "bulkhead");
+        this.circuitRejected = meterRegistry.counter("message.gateway.rejected", "message_type", type, "reason", "circuit_open");
+        Gauge.builder("message.gateway.in_flight", bulkhead, b -> provider.getMaxInFlight() - b.availablePermits())
+                .tag("message_type", type)
+                .register(meterRegistry);
+        Gauge.builder("message.gateway.circuit.open", circuitBreaker, cb -> cb.isOpen() ? 1 : 0)
+                .tag("message_type", type)
+                .register(meterRegistry);
+    }
+
+    // 게이트웨이별 요청 본문
+    protected abstract Object body(MessageEvent event);
+
+    // 게이트웨이별 다건 요청 본문 (같은 내용, 여러 수신자)
+    protected abstract Object batchBody(List<MessageEvent> events);
+
+    @Override
+    public MessageType messageType() {
+        return messageType;
+    }
+
+    @Override
+    public Mono<Void> send(MessageEvent event) {
+        return post(provider.getPath(), () -> body(event));
+    }
+
+    @Override
+    public int batchSize() {
+        return provider.getBatchSize();
+    }
+
+    @Override
+    public int maxInFlight() {
+        return provider.getMaxInFlight();
+    }
+
+    @Override
+    public Mono<Void> sendBatch(List<MessageEvent> events) {
+        if (events.size() == 1) {
+            return send(events.get(0));
+        }
+        return post(provider.getBatchPath(), () -> batchBody(events));
+    }
+
+    private Mono<Void> post(String path, Supplier<Object> bodySupplier) {
+        return Mono.defer(() -> {
+            Object body = bodySupplier.get();
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejected.increment();
+                return Mono.error(new MessageSendException(messageType + " 게이트웨이 동시 요청 한도 초과"));
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                circuitRejected.increment();
+                return Mono.error(new MessageSendException(messageType + " 게이트웨이 호출 차단 중 (circuit open)"));
+            }
+
+            return webClient.post()
+                    .uri(path)
+                    .bodyValue(body)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(Duration.ofMillis(provider.getTimeoutMs()))
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(this::onError)
+                    .doOnCancel(circuitBreaker::onFailure)
+                    .doFinally(signal -> bulkhead.release())
+                    .then();
+        }).onErrorMap(e -> !(e instanceof MessageSendException),
+                e -> new MessageSendException(messageType + " 발송 실패: " + e.getMessage(), e));
+    }
+
+    private void onError(Throwable e) {
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            // 요청 자체의 문제이므로 게이트웨이는 정상으로 판단
+            circuitBreaker.onSuccess();
+            return;
+        }
+        circuitBreaker.onFailure();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+}
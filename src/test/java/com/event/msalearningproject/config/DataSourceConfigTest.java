@@ -0,0 +1,129 @@
+package com.event.msalearningproject.config;
+
+import com.event.msalearningproject.example.entity.SampleEntity;
+import com.event.msalearningproject.example.repository.SampleRepository;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("DataSourceConfig 테스트")
+class DataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(DataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:write;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.hikari.pool-name=test-write-pool",
+                    "spring.datasource.read.hikari.pool-name=test-read-pool");
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 읽기 풀, 그 외에는 쓰기 풀의 커넥션을 사용")
+    void dataSource_RoutesByReadOnly() {
+        contextRunner
+                .withPropertyValues("spring.datasource.read.hikari.jdbc-url=jdbc:h2:mem:read;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    // given
+                    DataSource dataSource = context.getBean("dataSource", DataSource.class);
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                    TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+                    // when
+                    String write = transactionTemplate.execute(status ->
+                            jdbcTemplate.queryForObject("select database()", String.class));
+                    transactionTemplate.setReadOnly(true);
+                    String read = transactionTemplate.execute(status ->
+                            jdbcTemplate.queryForObject("select database()", String.class));
+
+                    // then
+                    assertThat(write).isEqualToIgnoringCase("write");
+                    assertThat(read).isEqualToIgnoringCase("read");
+                });
+    }
+
+    @Test
+    @DisplayName("읽기 풀의 jdbc-url 을 생략하면 쓰기 풀과 같은 DB 에 읽기 전용으로 연결")
+    void readDataSource_DefaultsToWriteDatabase() {
+        contextRunner.run(context -> {
+            HikariDataSource read = context.getBean("readDataSource", HikariDataSource.class);
+
+            assertThat(read.getJdbcUrl()).isEqualTo("jdbc:h2:mem:write;DB_CLOSE_DELAY=-1");
+            assertThat(read.isReadOnly()).isTrue();
+            assertThat(read.getPoolName()).isEqualTo("test-read-pool");
+        });
+    }
+
+    @Test
+    @DisplayName("회원 / example 엔티티를 하나의 persistence unit 으로 구성하고 spring.jpa 설정을 적용")
+    void entityManagerFactory_CoversAllEntityPackages() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50")
+                .run(context -> {
+                    SessionFactoryImplementor sessionFactory = context.getBean(EntityManagerFactory.class)
+                            .unwrap(SessionFactoryImplementor.class);
+                    MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+
+                    assertThat(metamodel.findEntityDescriptor(MemberEntity.class)).isNotNull();
+                    assertThat(metamodel.findEntityDescriptor(MessageHistoryEntity.class)).isNotNull();
+                    assertThat(metamodel.findEntityDescriptor(SampleEntity.class)).isNotNull();
+                    // snake_case naming
+                    assertThat(((AbstractEntityPersister) metamodel.getEntityDescriptor(MemberEntity.class))
+                            .getPropertyColumnNames("messageType")).containsExactly("message_type");
+                    assertThat(sessionFactory.getSessionFactoryOptions().getJdbcBatchSize()).isEqualTo(50);
+                    assertThat(sessionFactory.getJdbcServices().getSqlStatementLogger().isLogToStdout()).isFalse();
+                    assertThat(context).hasSingleBean(MemberRepository.class).hasSingleBean(SampleRepository.class);
+                });
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 호출한 repository 조회(findByContact)는 읽기 풀의 커넥션을 사용")
+    void repositoryQuery_UsesReadPool() {
+        contextRunner
+                .withPropertyValues("spring.jpa.hibernate.ddl-auto=create-drop")
+                // 풀별 커넥션 요청을 확인하기 위해 두 풀을 spy 로 감쌈
+                .withBean("poolSpyPostProcessor", BeanPostProcessor.class, () -> new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return beanName.equals("writeDataSource") || beanName.equals("readDataSource") ? spy(bean) : bean;
+                    }
+                })
+                .run(context -> {
+                    // given
+                    MemberRepository memberRepository = context.getBean(MemberRepository.class);
+                    DataSource write = context.getBean("writeDataSource", DataSource.class);
+                    DataSource read = context.getBean("readDataSource", DataSource.class);
+                    clearInvocations(write, read);
+
+                    // when
+                    memberRepository.findByContact("010-1234-5678");
+
+                    // then
+                    verify(read).getConnection();
+                    verify(write, never()).getConnection();
+                });
+    }
+}
@@ -0,0 +1,114 @@
+package com.event.msalearningproject.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestIdFilter 테스트")
+class RequestIdFilterTest {
+
+    private final RequestIdFilter requestIdFilter = new RequestIdFilter(0);
+
+    @Test
+    @DisplayName("받은 X-Request-Id 를 MDC 와 응답 헤더에 설정하고 요청이 끝나면 정리")
+    void doFilter_AcceptsRequestId() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/msa/v1/members");
+        request.addHeader(RequestIdFilter.HEADER, "req-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> inChain = new AtomicReference<>();
+        AtomicReference<String> timing = new AtomicReference<>();
+
+        // when
+        requestIdFilter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                inChain.set(MDC.get(RequestIdFilter.MDC_KEY));
+                RequestTiming.record("hash", () -> { });
+                timing.set(RequestTiming.summary());
+            }
+        }));
+
+        // then
+        assertThat(inChain).hasValue("req-123");
+        assertThat(timing.get()).startsWith("hash=");
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo("req-123");
+        assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+        assertThat(RequestTiming.summary()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 X-Request-Id 는 새 id 로 대체")
+    void doFilter_ReplacesInvalidRequestId() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/msa/v1/members/testuser");
+        request.addHeader(RequestIdFilter.HEADER, "bad id\r\nInjected: true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        requestIdFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).matches("[0-9a-f-]{36}");
+    }
+
+    @Test
+    @DisplayName("executor 에 제출한 작업은 제출한 스레드의 requestId 로 실행")
+    void mdcTaskDecorator_PropagatesRequestId() throws Exception {
+        // given
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        MDC.put(RequestIdFilter.MDC_KEY, "req-456");
+
+        try {
+            // when
+            String propagated = executor.submitCompletable(() -> MDC.get(RequestIdFilter.MDC_KEY)).get();
+            MDC.remove(RequestIdFilter.MDC_KEY);
+            String afterwards = executor.submitCompletable(() -> MDC.get(RequestIdFilter.MDC_KEY)).get();
+
+            // then
+            assertThat(propagated).isEqualTo("req-456");
+            assertThat(afterwards).isNull();
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 executor 빈이 있어도 applicationTaskExecutor 가 만들어지고 MdcTaskDecorator 가 적용됨")
+    void applicationTaskExecutor_DecoratedInForceMode() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+                .withPropertyValues("spring.task.execution.mode=force")
+                .withBean(MdcTaskDecorator.class)
+                .withBean("passwordHashingExecutor", ThreadPoolTaskExecutor.class)
+                .run(context -> {
+                    AsyncTaskExecutor executor = context.getBean("applicationTaskExecutor", AsyncTaskExecutor.class);
+                    MDC.put(RequestIdFilter.MDC_KEY, "req-789");
+                    try {
+                        assertThat(executor.submitCompletable(() -> MDC.get(RequestIdFilter.MDC_KEY)).get())
+                                .isEqualTo("req-789");
+                    } finally {
+                        MDC.remove(RequestIdFilter.MDC_KEY);
+                    }
+                });
+    }
+}
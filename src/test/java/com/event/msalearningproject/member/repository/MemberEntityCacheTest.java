@@ -0,0 +1,112 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.config.HibernateCacheConfig;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋 시점에 갱신되므로 테스트 트랜잭션 없이 repository 호출마다 커밋
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("MemberEntity 2차 캐시 테스트")
+class MemberEntityCacheTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.save(MemberEntity.builder()
+                .userId("cacheuser")
+                .password("encodedPassword")
+                .name("춘봉")
+                .email("cacheuser@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .active(true)
+                .build());
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 userId 를 다시 조회하면 natural-id / 엔티티 캐시에서 SQL 없이 반환")
+    void findByUserId_NaturalIdCacheHit() {
+        // given
+        memberRepository.findByUserId("cacheuser");
+        long firstStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        // when
+        MemberEntity cached = memberRepository.findByUserId("cacheuser").orElseThrow();
+
+        // then
+        assertThat(firstStatements).isEqualTo(1);
+        assertThat(cached.getEmail()).isEqualTo("cacheuser@naver.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("탈퇴(변경) 커밋 후에는 캐시에서 변경된 상태를 반환")
+    void findByUserId_ReflectsCommittedUpdate() {
+        // given
+        memberRepository.findByUserId("cacheuser");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            MemberEntity member = memberRepository.findByUserId("cacheuser").orElseThrow();
+            member.setActive(false);
+            member.setExitDate(LocalDateTime.now());
+        });
+        statistics.clear();
+
+        // when
+        MemberEntity exited = memberRepository.findByUserId("cacheuser").orElseThrow();
+
+        // then
+        assertThat(exited.isActive()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 userId 는 캐시하지 않고 매번 조회")
+    void findByUserId_MissIsNotCached() {
+        assertThat(memberRepository.findByUserId("nonexistent")).isEmpty();
+        assertThat(memberRepository.findByUserId("nonexistent")).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
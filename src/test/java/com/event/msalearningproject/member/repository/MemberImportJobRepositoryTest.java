@@ -0,0 +1,76 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberImportJobEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("MemberImportJobRepository 테스트")
+class MemberImportJobRepositoryTest {
+
+    @Autowired
+    private MemberImportJobRepository memberImportJobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("적재가 끝났고 선점 기한이 지난 작업만 선점 대상")
+    void findRunnableForUpdate_SkipsReceivingLeasedAndCompleted() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        save(MemberImportStatus.RECEIVING, null);
+        MemberImportJobEntity pending = save(MemberImportStatus.PENDING, null);
+        MemberImportJobEntity expired = save(MemberImportStatus.RUNNING, now.minusMinutes(1));
+        save(MemberImportStatus.RUNNING, now.plusMinutes(5));
+        save(MemberImportStatus.COMPLETED, null);
+
+        // when
+        List<MemberImportJobEntity> runnable = memberImportJobRepository.findRunnableForUpdate(now, PageRequest.of(0, 10));
+
+        // then
+        assertThat(runnable).extracting(MemberImportJobEntity::getId).containsExactly(pending.getId(), expired.getId());
+    }
+
+    @Test
+    @DisplayName("진행 반영은 선점 token 이 같을 때만 적용되고 건수는 누적")
+    void recordProgress_RequiresLeaseToken() {
+        // given
+        MemberImportJobEntity job = memberImportJobRepository.saveAndFlush(MemberImportJobEntity.builder()
+                .status(MemberImportStatus.RUNNING)
+                .total(10)
+                .failed(1)
+                .leaseToken("token-1")
+                .build());
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(5);
+
+        // when
+        int updated = memberImportJobRepository.recordProgress(job.getId(), "token-1", 3, 1, leaseUntil);
+        int stale = memberImportJobRepository.recordProgress(job.getId(), "token-0", 3, 1, leaseUntil);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(stale).isZero();
+        MemberImportJobEntity reloaded = memberImportJobRepository.findById(job.getId()).orElseThrow();
+        assertThat(reloaded.getImported()).isEqualTo(3);
+        assertThat(reloaded.getFailed()).isEqualTo(2);
+    }
+
+    private MemberImportJobEntity save(MemberImportStatus status, LocalDateTime leaseUntil) {
+        return memberImportJobRepository.saveAndFlush(MemberImportJobEntity.builder()
+                .status(status)
+                .leaseUntil(leaseUntil)
+                .build());
+    }
+}
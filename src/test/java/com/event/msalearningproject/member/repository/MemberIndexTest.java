@@ -0,0 +1,58 @@
+package com.event.msalearningproject.member.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 EXPLAIN 실행 계획에 index 가 사용되는지 확인 (full scan 시 "tableScan" 으로 표시됨)
+@DataJpaTest
+@DisplayName("회원/발송 이력 조회 인덱스 테스트")
+class MemberIndexTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("연락처 조회 - uk_member_contact 사용")
+    void findByContact_UsesIndex() {
+        String plan = explain("select * from member where contact = '010-1234-5678'");
+
+        assertThat(plan).containsIgnoringCase("uk_member_contact").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("이메일 조회 - uk_member_email 사용")
+    void findByEmail_UsesIndex() {
+        String plan = explain("select * from member where email = 'testuser@naver.com'");
+
+        assertThat(plan).containsIgnoringCase("uk_member_email").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("회원별 발송 이력 조회/삭제 - idx_message_history_member_id 사용")
+    void findByMemberId_UsesIndex() {
+        String select = explain("select * from message_history where member_id = 1");
+        String delete = explain("delete from message_history where member_id in (1, 2, 3)");
+
+        assertThat(select).containsIgnoringCase("idx_message_history_member_id").doesNotContain(TABLE_SCAN);
+        assertThat(delete).containsIgnoringCase("idx_message_history_member_id").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("미발송 이력 조회 - idx_message_history_sent_id 사용")
+    void findBySentFalse_UsesIndex() {
+        String plan = explain("select * from message_history where sent = false order by id");
+
+        assertThat(plan).containsIgnoringCase("idx_message_history_sent_id").doesNotContain(TABLE_SCAN);
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("explain " + sql).getSingleResult());
+    }
+}
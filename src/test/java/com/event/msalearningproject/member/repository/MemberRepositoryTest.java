@@ -0,0 +1,196 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("MemberRepository 테스트")
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.save(MemberEntity.builder()
+                .userId("testuser")
+                .password("encodedPassword")
+                .name("춘봉")
+                .email("testuser@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .active(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("중복 없음 - 모든 항목 사용 가능")
+    void probeDuplicates_NoCollision() {
+        MemberDuplicateProbe probe = memberRepository.probeDuplicates("newuser", "newuser@naver.com", "010-9999-9999");
+
+        assertThat(probe.isUserIdTaken()).isFalse();
+        assertThat(probe.isEmailTaken()).isFalse();
+        assertThat(probe.isContactTaken()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이메일/연락처만 중복")
+    void probeDuplicates_EmailAndContactCollision() {
+        MemberDuplicateProbe probe = memberRepository.probeDuplicates("newuser", "testuser@naver.com", "010-1234-5678");
+
+        assertThat(probe.isUserIdTaken()).isFalse();
+        assertThat(probe.isEmailTaken()).isTrue();
+        assertThat(probe.isContactTaken()).isTrue();
+    }
+
+    @Test
+    @DisplayName("중복 검사 쿼리 수 비교 - 기존 3회 조회 대비 1회, 엔티티 로딩 없음")
+    void probeDuplicates_SingleRoundTrip() {
+        // 기존 방식: findByUserId / findByEmail / findByContact
+        memberRepository.findByUserId("newuser");
+        memberRepository.findByEmail("newuser@naver.com");
+        memberRepository.findByContact("010-1234-5678");
+        long legacyStatements = statistics.getPrepareStatementCount();
+        long legacyEntityLoads = statistics.getEntityLoadCount();
+        entityManager.clear();
+        statistics.clear();
+
+        // 변경 방식
+        memberRepository.probeDuplicates("newuser", "newuser@naver.com", "010-1234-5678");
+
+        assertThat(legacyStatements).isEqualTo(3);
+        assertThat(legacyEntityLoads).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("id 커서 기반 활성 회원 조회")
+    void findByActiveTrueAndIdGreaterThan_KeysetPaging() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            memberRepository.save(MemberEntity.builder()
+                    .userId("pageuser" + i)
+                    .password("encodedPassword")
+                    .name("나비")
+                    .email("pageuser" + i + "@naver.com")
+                    .contact("010-0000-000" + i)
+                    .messageType(MessageType.EMAIL)
+                    .active(i != 2)
+                    .build());
+        }
+
+        // when
+        Slice<MemberEntity> first = memberRepository.findByActiveTrueAndIdGreaterThan(0L, PageRequest.of(0, 2, Sort.by("id")));
+        Long cursor = first.getContent().get(first.getNumberOfElements() - 1).getId();
+        Slice<MemberEntity> second = memberRepository.findByActiveTrueAndIdGreaterThan(cursor, PageRequest.of(0, 2, Sort.by("id")));
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent()).extracting(MemberEntity::getUserId).containsExactly("testuser", "pageuser1");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent()).extracting(MemberEntity::getUserId).containsExactly("pageuser3");
+    }
+
+    @Test
+    @DisplayName("캠페인 대상 조회 - MessageType 이 같은 활성 회원만 id 순으로, 엔티티 로딩 없이")
+    void findCampaignRecipients_FiltersByTypeWithoutEntityLoad() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            memberRepository.save(MemberEntity.builder()
+                    .userId("campaign" + i)
+                    .password("encodedPassword")
+                    .name("나비")
+                    .email("campaign" + i + "@naver.com")
+                    .contact("010-1111-000" + i)
+                    .messageType(i == 3 ? MessageType.EMAIL : MessageType.SMS)
+                    .active(i != 2)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        List<CampaignRecipient> recipients = memberRepository.findCampaignRecipients(
+                MessageType.SMS, 0L, PageRequest.of(0, 10));
+
+        // then
+        assertThat(recipients).extracting(CampaignRecipient::getUserId).containsExactly("testuser", "campaign1");
+        assertThat(recipients).extracting(CampaignRecipient::getContact)
+                .containsExactly("010-1234-5678", "010-1111-0001");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 가입 - batch insert 후 영속성 컨텍스트에서 분리하고, 청크의 사용 중인 값을 한 번에 조회")
+    void insertAllAndFindIdentifiersIn() {
+        // given
+        List<MemberEntity> members = List.of(
+                MemberEntity.builder()
+                        .userId("import1")
+                        .password("encodedPassword")
+                        .name("나비")
+                        .email("import1@naver.com")
+                        .contact("010-2222-0001")
+                        .messageType(MessageType.EMAIL)
+                        .active(true)
+                        .build(),
+                MemberEntity.builder()
+                        .userId("import2")
+                        .password("encodedPassword")
+                        .name("나비")
+                        .email("import2@naver.com")
+                        .contact("010-2222-0002")
+                        .messageType(MessageType.SMS)
+                        .active(true)
+                        .build());
+
+        // when
+        memberRepository.insertAll(members);
+        statistics.clear();
+        List<MemberIdentifiers> existing = memberRepository.findIdentifiersIn(
+                List.of("import1", "newuser"),
+                List.of("newuser@naver.com", "testuser@naver.com"),
+                List.of("010-2222-0002"));
+
+        // then
+        assertThat(members).allSatisfy(member -> {
+            assertThat(member.getId()).isNotNull();
+            assertThat(entityManager.contains(member)).isFalse();
+        });
+        assertThat(existing).extracting(MemberIdentifiers::getUserId)
+                .containsExactlyInAnyOrder("testuser", "import1", "import2");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
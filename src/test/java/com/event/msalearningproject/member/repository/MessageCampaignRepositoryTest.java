@@ -0,0 +1,98 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.CampaignStatus;
+import com.event.msalearningproject.member.repository.entity.MessageCampaignEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("MessageCampaignRepository 테스트")
+class MessageCampaignRepositoryTest {
+
+    @Autowired
+    private MessageCampaignRepository messageCampaignRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("접수 / 선점 기한이 지난 캠페인만 선점 대상")
+    void findRunnableForUpdate_SkipsLeasedAndCompleted() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        MessageCampaignEntity pending = save("pending", CampaignStatus.PENDING, null);
+        MessageCampaignEntity expired = save("expired", CampaignStatus.RUNNING, now.minusMinutes(1));
+        save("leased", CampaignStatus.RUNNING, now.plusMinutes(5));
+        save("completed", CampaignStatus.COMPLETED, null);
+
+        // when
+        List<MessageCampaignEntity> runnable = messageCampaignRepository.findRunnableForUpdate(now, PageRequest.of(0, 10));
+
+        // then
+        assertThat(runnable).extracting(MessageCampaignEntity::getId).containsExactly(pending.getId(), expired.getId());
+    }
+
+    @Test
+    @DisplayName("진행 반영은 선점 token 이 같을 때만 적용되고 건수는 누적")
+    void recordProgress_RequiresLeaseToken() {
+        // given
+        MessageCampaignEntity campaign = messageCampaignRepository.saveAndFlush(MessageCampaignEntity.builder()
+                .campaignKey("key-1")
+                .messageType(MessageType.SMS)
+                .content("이벤트 안내")
+                .status(CampaignStatus.RUNNING)
+                .targeted(3)
+                .sent(3)
+                .leaseToken("token-1")
+                .leaseUntil(LocalDateTime.now().plusMinutes(5))
+                .build());
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(10);
+
+        // when
+        int stale = messageCampaignRepository.recordProgress(campaign.getId(), "token-0", 6L, 3, 3, 0, leaseUntil);
+        int updated = messageCampaignRepository.recordProgress(campaign.getId(), "token-1", 6L, 3, 2, 1, leaseUntil);
+        entityManager.clear();
+
+        // then
+        MessageCampaignEntity reloaded = messageCampaignRepository.findById(campaign.getId()).orElseThrow();
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.getLastMemberId()).isEqualTo(6L);
+        assertThat(reloaded.getTargeted()).isEqualTo(6);
+        assertThat(reloaded.getSent()).isEqualTo(5);
+        assertThat(reloaded.getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 campaign_key 로 두 번 저장할 수 없음")
+    void campaignKey_Unique() {
+        // given
+        save("key-1", CampaignStatus.PENDING, null);
+
+        // when & then
+        assertThatThrownBy(() -> save("key-1", CampaignStatus.PENDING, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private MessageCampaignEntity save(String key, CampaignStatus status, LocalDateTime leaseUntil) {
+        return messageCampaignRepository.saveAndFlush(MessageCampaignEntity.builder()
+                .campaignKey(key)
+                .messageType(MessageType.SMS)
+                .content("이벤트 안내")
+                .status(status)
+                .leaseUntil(leaseUntil)
+                .build());
+    }
+}
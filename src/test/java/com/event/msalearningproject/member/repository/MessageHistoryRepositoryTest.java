@@ -0,0 +1,118 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100"
+})
+@DisplayName("MessageHistoryRepository 테스트")
+class MessageHistoryRepositoryTest {
+
+    @Autowired
+    private MessageHistoryRepository messageHistoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MemberEntity member;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberEntity.builder()
+                .userId("testuser")
+                .password("encodedPassword")
+                .name("춘봉")
+                .email("testuser@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .active(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("발송 이력 일괄 저장 - batch_size 단위로 묶어서 insert")
+    void insertAll_BatchesInserts() {
+        // given
+        MemberEntity reference = memberRepository.getReferenceById(member.getId());
+        List<MessageHistoryEntity> histories = IntStream.range(0, 250)
+                .mapToObj(i -> MessageHistoryEntity.builder()
+                        .member(reference)
+                        .messageType(MessageType.SMS)
+                        .content("공지 " + i)
+                        .to("010-1234-5678")
+                        .sent(true)
+                        .build())
+                .toList();
+
+        // when
+        messageHistoryRepository.insertAll(histories);
+
+        // then - 250건 insert 가 3번의 batch(100/100/50)와 소수의 시퀀스 조회로 처리됨
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(250);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(histories).allMatch(history -> history.getId() != null);
+        assertThat(entityManager.contains(histories.get(0))).isFalse();
+        assertThat(messageHistoryRepository.findByMemberId(member.getId())).hasSize(250);
+    }
+
+    @Test
+    @DisplayName("회원 일괄 비활성화 및 이력 삭제 - 엔티티 로딩 없이 UPDATE/DELETE 각 1회")
+    void deactivateAndDeleteHistories_SetBased() {
+        // given
+        MemberEntity reference = memberRepository.getReferenceById(member.getId());
+        messageHistoryRepository.insertAll(IntStream.range(0, 30)
+                .mapToObj(i -> MessageHistoryEntity.builder()
+                        .member(reference)
+                        .messageType(MessageType.SMS)
+                        .content("공지 " + i)
+                        .to("010-1234-5678")
+                        .sent(true)
+                        .build())
+                .toList());
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        int exited = memberRepository.deactivateAllByIdIn(List.of(member.getId()), LocalDateTime.now());
+        int deleted = messageHistoryRepository.deleteAllByMemberIdIn(List.of(member.getId()));
+
+        // then
+        assertThat(exited).isEqualTo(1);
+        assertThat(deleted).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(memberRepository.findById(member.getId())).get()
+                .extracting(MemberEntity::isActive).isEqualTo(false);
+        assertThat(memberRepository.deactivateAllByIdIn(List.of(member.getId()), LocalDateTime.now())).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.event.msalearningproject.member.repository;
+
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageOutboxEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("MessageOutboxRepository 테스트")
+class MessageOutboxRepositoryTest {
+
+    @Autowired
+    private MessageOutboxRepository messageOutboxRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private MemberEntity member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberEntity.builder()
+                .userId("testuser")
+                .password("encodedPassword")
+                .name("춘봉")
+                .email("testuser@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .active(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("선점 기한이 없거나 지난 outbox 만 id 순으로 선점 대상")
+    void findClaimableForUpdate_SkipsClaimed() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        MessageOutboxEntity unclaimed = save(null);
+        save(now.plusMinutes(1));
+        MessageOutboxEntity expired = save(now.minusMinutes(1));
+
+        // when
+        List<MessageOutboxEntity> claimable = messageOutboxRepository.findClaimableForUpdate(now, PageRequest.of(0, 10));
+
+        // then
+        assertThat(claimable).extracting(MessageOutboxEntity::getId).containsExactly(unclaimed.getId(), expired.getId());
+    }
+
+    @Test
+    @DisplayName("선점 해제 후 다시 선점 대상")
+    void releaseClaim() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        MessageOutboxEntity claimed = save(now.plusMinutes(1));
+
+        // when
+        messageOutboxRepository.releaseClaim(List.of(claimed.getId()));
+        entityManager.clear();
+
+        // then
+        assertThat(messageOutboxRepository.findClaimableForUpdate(now, PageRequest.of(0, 10)))
+                .extracting(MessageOutboxEntity::getId)
+                .containsExactly(claimed.getId());
+    }
+
+    private MessageOutboxEntity save(LocalDateTime claimedUntil) {
+        MessageOutboxEntity outbox = messageOutboxRepository.saveAndFlush(MessageOutboxEntity.builder()
+                .member(member)
+                .userId(member.getUserId())
+                .messageType(MessageType.SMS)
+                .recipient(member.getContact())
+                .content("회원가입을 축하합니다!")
+                .claimedUntil(claimedUntil)
+                .build());
+        entityManager.clear();
+        return outbox;
+    }
+}
@@ -0,0 +1,120 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageAmqpProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AmqpMessagePublisher 테스트")
+class AmqpMessagePublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private MessageAmqpProperties properties;
+
+    private AmqpMessagePublisher amqpMessagePublisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MessageAmqpProperties();
+        properties.setConfirmTimeoutMs(100);
+        amqpMessagePublisher = new AmqpMessagePublisher(rabbitTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("MessageType 을 routing key 로 채널별 queue 에 발행하고 confirm 대기")
+    void publish_RoutedByMessageType() {
+        // given
+        MessageEvent pushEvent = MessageEvent.builder().memberId(1L).userId("user1").messageType(MessageType.PUSH).build();
+        MessageEvent emailEvent = MessageEvent.builder().memberId(2L).userId("user2").messageType(MessageType.EMAIL).build();
+        brokerReplies(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+        // when
+        amqpMessagePublisher.publish(List.of(pushEvent, emailEvent));
+
+        // then
+        verify(rabbitTemplate).convertAndSend(eq("member.message"), eq("PUSH"), eq((Object) pushEvent),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+        verify(rabbitTemplate).convertAndSend(eq("member.message"), eq("EMAIL"), eq((Object) emailEvent),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    @Test
+    @DisplayName("브로커가 nack 하면 예외 (outbox 롤백)")
+    void publish_Nack() {
+        // given
+        MessageEvent event = MessageEvent.builder().memberId(1L).userId("user1").messageType(MessageType.SMS).build();
+        brokerReplies(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "channel closed")));
+
+        // when & then
+        assertThatThrownBy(() -> amqpMessagePublisher.publish(List.of(event)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("nack");
+    }
+
+    @Test
+    @DisplayName("queue 로 라우팅되지 않아 반송된 메시지가 있으면 예외")
+    void publish_Returned() {
+        // given
+        MessageEvent event = MessageEvent.builder().memberId(1L).userId("user1").messageType(MessageType.KAKAO).build();
+        brokerReplies(correlation -> {
+            correlation.setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE", "member.message", "KAKAO"));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+        });
+
+        // when & then
+        assertThatThrownBy(() -> amqpMessagePublisher.publish(List.of(event)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("NO_ROUTE");
+    }
+
+    @Test
+    @DisplayName("confirm 을 제한 시간 안에 받지 못하면 예외")
+    void publish_ConfirmTimeout() {
+        // given
+        MessageEvent event = MessageEvent.builder().memberId(1L).userId("user1").messageType(MessageType.EMAIL).build();
+
+        // when & then
+        assertThatThrownBy(() -> amqpMessagePublisher.publish(List.of(event)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("시간 초과");
+    }
+
+    @Test
+    @DisplayName("채널별 queue 이름과 기본 consumer 설정")
+    void channelDefaults() {
+        assertThat(properties.queueName(MessageType.EMAIL)).isEqualTo("member.message.email");
+        assertThat(properties.channel(MessageType.PUSH).getPrefetch()).isEqualTo(50);
+    }
+
+    private void brokerReplies(Consumer<CorrelationData> reply) {
+        doAnswer(invocation -> {
+            reply.accept(invocation.getArgument(4));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+}
@@ -0,0 +1,145 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdempotencyCache 테스트")
+class IdempotencyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyCache idempotencyCache = new IdempotencyCache(meterRegistry, 100, Duration.ofMinutes(1), 5000);
+
+    @Test
+    @DisplayName("완료된 키는 다시 실행하지 않고 처음 응답을 반환")
+    void execute_ReplaysCompletedResponse() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        ResponseEntity<String> first = idempotencyCache.execute("key-1", "fingerprint-1", () -> created(executions));
+        ResponseEntity<String> replayed = idempotencyCache.execute("key-1", "fingerprint-1", () -> created(executions));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isSameAs(first.getBody());
+        assertThat(replayed.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.get("member.idempotency").tag("result", "replayed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키의 중복 요청은 처음 요청의 결과를 기다림")
+    void execute_ConcurrentDuplicateWaitsForFirst() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyCache.execute("key-1", "fingerprint-1", () -> {
+                    started.countDown();
+                    await(release);
+                    return created(executions);
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<ResponseEntity<String>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyCache.execute("key-1", "fingerprint-1", () -> created(executions)));
+        release.countDown();
+
+        // then
+        assertThat(duplicate.get(1, TimeUnit.SECONDS).getBody()).isEqualTo(first.get(1, TimeUnit.SECONDS).getBody());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 요청하면 IDEMPOTENCY_KEY_REUSED")
+    void execute_DifferentRequestWithSameKey() {
+        // given
+        idempotencyCache.execute("key-1", "fingerprint-1", () -> created(new AtomicInteger()));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyCache.execute("key-1", "fingerprint-2", () -> created(new AtomicInteger())))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("hashCode 가 같아도 본문이 다르면 같은 키의 요청을 IDEMPOTENCY_KEY_REUSED 로 거절")
+    void execute_DifferentBodyWithCollidingHashCode() throws Exception {
+        // given - "Aa" 와 "BB" 는 String.hashCode 가 같아 Lombok hashCode 도 같음
+        ObjectMapper objectMapper = new ObjectMapper();
+        MemberJoinRequest original = joinRequest("Aa");
+        MemberJoinRequest retried = joinRequest("BB");
+        assertThat(retried.hashCode()).isEqualTo(original.hashCode());
+
+        String originalFingerprint = IdempotencyCache.fingerprint(objectMapper.writeValueAsBytes(original));
+        String retriedFingerprint = IdempotencyCache.fingerprint(objectMapper.writeValueAsBytes(retried));
+        idempotencyCache.execute("key-1", originalFingerprint, () -> created(new AtomicInteger()));
+
+        // when & then
+        assertThat(retriedFingerprint).isNotEqualTo(originalFingerprint);
+        assertThatThrownBy(() -> idempotencyCache.execute("key-1", retriedFingerprint, () -> created(new AtomicInteger())))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 보관하지 않아 재시도 시 다시 실행")
+    void execute_ServerErrorIsNotStored() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyCache.execute("key-1", "fingerprint-1", () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("busy");
+        });
+
+        // when
+        ResponseEntity<String> retried = idempotencyCache.execute("key-1", "fingerprint-1", () -> created(executions));
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private MemberJoinRequest joinRequest(String name) {
+        return MemberJoinRequest.builder()
+                .userId("testuser")
+                .password("password123!")
+                .name(name)
+                .contact("010-1234-5678")
+                .email("testuser@naver.com")
+                .messageType(MessageType.SMS)
+                .build();
+    }
+
+    private ResponseEntity<String> created(AtomicInteger executions) {
+        return ResponseEntity.status(HttpStatus.CREATED).body("member-" + executions.incrementAndGet());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
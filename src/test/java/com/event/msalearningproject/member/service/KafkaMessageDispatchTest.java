@@ -0,0 +1,71 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.KafkaConfig;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringJUnitConfig({KafkaConfig.class, KafkaMessagePublisher.class, KafkaMessageConsumer.class})
+@EmbeddedKafka(partitions = 3, topics = "member-message", bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+@TestPropertySource(properties = {
+        "member.message.dispatch-mode=kafka",
+        "member.message.kafka.partitions=3"
+})
+@DisplayName("Kafka 메시지 발송 모드 테스트")
+class KafkaMessageDispatchTest {
+
+    @Autowired
+    private KafkaMessagePublisher kafkaMessagePublisher;
+
+    @MockitoBean
+    private MessageDeliveryService messageDeliveryService;
+
+    @Test
+    @DisplayName("발행한 메시지가 MessageType 별로 나뉘어 소비됨")
+    void publishAndConsume_GroupedByMessageType() {
+        // given
+        List<List<MessageEvent>> received = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            received.add(List.copyOf(invocation.getArgument(0)));
+            return List.of();
+        }).when(messageDeliveryService).deliverAll(anyList());
+
+        List<MessageEvent> events = IntStream.range(0, 20)
+                .mapToObj(i -> MessageEvent.builder()
+                        .memberId((long) i)
+                        .userId("user" + i)
+                        .messageType(i % 2 == 0 ? MessageType.SMS : MessageType.EMAIL)
+                        .recipient("recipient" + i)
+                        .content("회원가입을 축하합니다!")
+                        .build())
+                .toList();
+
+        // when
+        kafkaMessagePublisher.publish(events);
+
+        // then
+        await().atMost(Duration.ofSeconds(30))
+                .untilAsserted(() -> assertThat(received.stream().mapToInt(List::size).sum()).isEqualTo(events.size()));
+
+        assertThat(received)
+                .allMatch(group -> group.stream().map(MessageEvent::getMessageType).distinct().count() == 1);
+        assertThat(received.stream().flatMap(List::stream).map(MessageEvent::getUserId).toList())
+                .containsExactlyInAnyOrderElementsOf(events.stream().map(MessageEvent::getUserId).toList());
+    }
+}
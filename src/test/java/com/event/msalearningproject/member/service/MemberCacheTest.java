@@ -0,0 +1,112 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MemberCache 테스트")
+class MemberCacheTest {
+
+    private final MemberCache memberCache = new MemberCache(new SimpleMeterRegistry(),
+            TransactionOperations.withoutTransaction(), 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+    private final MemberEntity member = MemberEntity.builder()
+            .userId("testuser")
+            .contact("010-1234-5678")
+            .build();
+
+    @Test
+    @DisplayName("두 번째 조회부터는 loader 를 호출하지 않음")
+    void getByUserId_CachesLoadedValue() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        memberCache.getByUserId("testuser", key -> load(loads, key));
+        MemberResponse cached = memberCache.getByUserId("testuser", key -> load(loads, key));
+
+        // then
+        assertThat(cached.getUserId()).isEqualTo("testuser");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 실패는 원래 예외를 그대로 던지고 캐시하지 않음")
+    void getByUserId_DoesNotCacheFailure() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> memberCache.getByUserId("nonexistent", key -> {
+            loads.incrementAndGet();
+            throw new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, "존재하지 않는 사용자입니다: " + key);
+        }))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.MEMBER_NOT_FOUND);
+
+        memberCache.getByUserId("nonexistent", key -> load(loads, key));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 evict 되면 조회 결과를 캐시에 남기지 않음")
+    void getByUserId_EvictDuringLoad() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when - loader 실행 중(탈퇴 커밋 직후) evict
+        memberCache.getByUserId("testuser", key -> {
+            memberCache.evict(member);
+            return load(loads, key);
+        });
+        memberCache.getByUserId("testuser", key -> load(loads, key));
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("evict 한 회원은 replica-lag 동안 primary(쓰기 트랜잭션)에서 다시 조회")
+    void getByUserId_ReadsPrimaryAfterEvict() {
+        // given
+        AtomicInteger primaryReads = new AtomicInteger();
+        MemberCache cache = new MemberCache(new SimpleMeterRegistry(), new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                primaryReads.incrementAndGet();
+                return action.doInTransaction(null);
+            }
+        }, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        cache.getByUserId("testuser", key -> load(loads, key));
+        cache.getByContact("010-9999-9999", key -> load(loads, key));
+
+        // when - 탈퇴 커밋 후 evict, 이어지는 조회
+        cache.evict(member);
+        cache.getByUserId("testuser", key -> load(loads, key));
+        cache.getByContact("010-9999-9999", key -> load(loads, key));
+
+        // then - evict 한 userId 만 primary 에서 조회
+        assertThat(loads).hasValue(3);
+        assertThat(primaryReads).hasValue(1);
+    }
+
+    private MemberResponse load(AtomicInteger loads, String userId) {
+        loads.incrementAndGet();
+        return MemberResponse.builder()
+                .userId(userId)
+                .build();
+    }
+}
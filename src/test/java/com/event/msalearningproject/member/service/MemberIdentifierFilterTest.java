@@ -0,0 +1,94 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.repository.MemberIdentifiers;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberIdentifierFilter 테스트")
+class MemberIdentifierFilterTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수 있음으로 응답하고 오탐률은 설정값 근처")
+    void bloomFilter_NoFalseNegativeAndBoundedFalsePositive() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+        assertThat(filter.memoryBytes()).isLessThan(20_000);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 확인, 적재 후에는 없는 값을 DB 조회 없이 판별")
+    void warmUp_LoadsIdentifiers() {
+        // given
+        MemberIdentifierFilter filter = new MemberIdentifierFilter(memberRepository, transactionManager,
+                meterRegistry, 1000, 0.01);
+        when(memberRepository.streamIdentifiers()).thenReturn(Stream.of(
+                new MemberIdentifiers("testuser", "testuser@naver.com", "010-1234-5678")));
+        assertThat(filter.mightContainUserId("newuser")).isTrue();
+
+        // when
+        filter.warmUp();
+
+        // then
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        assertThat(filter.mightContainAny("testuser", "new@naver.com", "010-0000-0000")).isTrue();
+        assertThat(filter.mightContainAny("newuser", "new@naver.com", "010-0000-0000")).isFalse();
+        assertThat(meterRegistry.get("member.bloom.check")
+                .tags("field", "userId", "result", "negative").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("member.bloom.insertions")
+                .tags("field", "email").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("가입 시 추가한 값은 있을 수 있음으로 응답")
+    void put_AddsIdentifiers() {
+        // given
+        MemberIdentifierFilter filter = new MemberIdentifierFilter(memberRepository, transactionManager,
+                meterRegistry, 1000, 0.01);
+        when(memberRepository.streamIdentifiers()).thenReturn(Stream.empty());
+        filter.warmUp();
+
+        // when
+        filter.put("newuser", "new@naver.com", "010-0000-0000");
+
+        // then
+        assertThat(filter.mightContainEmail("new@naver.com")).isTrue();
+        assertThat(filter.mightContainContact("010-9999-9999")).isFalse();
+    }
+}
@@ -0,0 +1,346 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberImportResponse;
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.mapper.MemberMapper;
+import com.event.msalearningproject.member.repository.MemberIdentifiers;
+import com.event.msalearningproject.member.repository.MemberImportErrorRepository;
+import com.event.msalearningproject.member.repository.MemberImportJobRepository;
+import com.event.msalearningproject.member.repository.MemberImportRowRepository;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportErrorEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportJobEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportRowEntity;
+import com.event.msalearningproject.member.repository.entity.MemberImportStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberImportService 테스트")
+class MemberImportServiceTest {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final String CSV_HEADER = "userId,password,name,contact,email,messageType";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberImportJobRepository memberImportJobRepository;
+
+    @Mock
+    private MemberImportRowRepository memberImportRowRepository;
+
+    @Mock
+    private MemberImportErrorRepository memberImportErrorRepository;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private MemberMapper memberMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<MemberImportRowEntity> stagedRows = new ArrayList<>();
+    private final List<MemberImportErrorEntity> reportedErrors = new ArrayList<>();
+    private MemberImportService memberImportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        memberImportService = importService(1000);
+
+        lenient().when(passwordHashingService.encodeAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+        lenient().when(memberMapper.toEntity(any(MemberJoinRequest.class))).thenAnswer(invocation -> {
+            MemberJoinRequest request = invocation.getArgument(0);
+            return MemberEntity.builder()
+                    .userId(request.getUserId())
+                    .email(request.getEmail())
+                    .contact(request.getContact())
+                    .messageType(request.getMessageType())
+                    .active(true)
+                    .build();
+        });
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+
+        lenient().when(memberImportJobRepository.saveAndFlush(any(MemberImportJobEntity.class))).thenAnswer(invocation -> {
+            MemberImportJobEntity job = invocation.getArgument(0);
+            job.setId(1L);
+            return job;
+        });
+        lenient().when(memberImportRowRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            stagedRows.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(memberImportErrorRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            reportedErrors.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(memberImportJobRepository.recordProgress(eq(1L), anyString(), anyInt(), anyInt(),
+                any(LocalDateTime.class))).thenReturn(1);
+        lenient().when(memberRepository.findIdentifiersIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("접수 - 검증을 통과한 행만 적재하고 검증 실패 행은 줄 번호로 기록, 가입 처리는 하지 않음")
+    void submit_StagesValidRows() {
+        // given
+        String csv = String.join("\n",
+                CSV_HEADER,
+                "user0001,password1!,나비,010-1000-0001,user0001@naver.com,SMS",
+                "user0002,password1!,나비,010-1000-0002,not-an-email,SMS",
+                "user0003,password1!,\"나비, 춘봉\",010-1000-0003,user0003@naver.com,EMAIL",
+                "user0004,password1!,나비,010-1000-0004,user0004@naver.com,FAX",
+                "");
+
+        // when
+        MemberImportResponse response = memberImportService.submit(TEXT_CSV, body(csv));
+
+        // then
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getStatus()).isEqualTo(MemberImportStatus.PENDING);
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(stagedRows).extracting(MemberImportRowEntity::getJobId, MemberImportRowEntity::getLine)
+                .containsExactly(tuple(1L, 2L), tuple(1L, 4L));
+        assertThat(reportedErrors).extracting(MemberImportErrorEntity::getLine, MemberImportErrorEntity::getErrorCode)
+                .containsExactly(tuple(3L, "VALIDATION_ERROR"), tuple(5L, "VALIDATION_ERROR"));
+        verify(memberImportJobRepository).accept(1L, 4, 2);
+        verify(passwordHashingService, never()).encodeAsync(anyString());
+        verify(memberRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("처리 - 파일 내 중복 / DB 중복 행은 오류로 기록하고 나머지만 저장한 뒤 처리한 행을 삭제")
+    @SuppressWarnings("unchecked")
+    void runNext_ImportsStagedRows() {
+        // given
+        MemberImportJobEntity job = claimable(MemberImportStatus.PENDING);
+        List<MemberImportRowEntity> rows = List.of(
+                staged(11L, 2, 1, 1),
+                staged(12L, 3, 1, 3),
+                staged(13L, 4, 4, 4, "taken@naver.com"));
+        when(memberImportRowRepository.findByJobIdOrderById(eq(1L), any(Pageable.class))).thenReturn(rows);
+        when(memberRepository.findIdentifiersIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(new MemberIdentifiers("other", "taken@naver.com", "010-0000-0000")));
+
+        // when
+        boolean claimed = memberImportService.runNext();
+
+        // then
+        assertThat(claimed).isTrue();
+        assertThat(job.getStatus()).isEqualTo(MemberImportStatus.RUNNING);
+
+        ArgumentCaptor<List<MemberEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(memberRepository).insertAll(saved.capture());
+        assertThat(saved.getValue()).extracting(MemberEntity::getUserId).containsExactly("user0001");
+        assertThat(saved.getValue().get(0).getPassword()).isEqualTo("encodedPassword");
+        verify(messageService).enqueueJoinMessages(saved.getValue());
+        verify(passwordHashingService, times(1)).encodeAsync(anyString());
+
+        assertThat(reportedErrors).extracting(MemberImportErrorEntity::getLine, MemberImportErrorEntity::getErrorCode)
+                .containsExactlyInAnyOrder(
+                        tuple(3L, MemberErrorCode.DUPLICATE_USER_ID.getCode()),
+                        tuple(4L, MemberErrorCode.DUPLICATE_EMAIL.getCode()));
+        verify(memberImportRowRepository).deleteAllByIdInBatch(List.of(11L, 12L, 13L));
+        verify(memberImportJobRepository).recordProgress(eq(1L), eq(job.getLeaseToken()), eq(1), eq(2),
+                any(LocalDateTime.class));
+        verify(memberImportJobRepository).complete(eq(1L), eq(job.getLeaseToken()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("처리 - 남은 행을 청크 단위로 나눠 저장")
+    void runNext_Chunked() {
+        // given
+        memberImportService = importService(2);
+        claimable(MemberImportStatus.PENDING);
+        when(memberImportRowRepository.findByJobIdOrderById(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(staged(11L, 1, 1, 1), staged(12L, 2, 2, 2)))
+                .thenReturn(List.of(staged(13L, 3, 3, 3)));
+
+        // when
+        memberImportService.runNext();
+
+        // then
+        verify(memberRepository, times(2)).insertAll(anyList());
+        verify(memberRepository, times(2)).findIdentifiersIn(anyCollection(), anyCollection(), anyCollection());
+        verify(memberImportRowRepository).deleteAllByIdInBatch(List.of(11L, 12L));
+        verify(memberImportRowRepository).deleteAllByIdInBatch(List.of(13L));
+        verify(memberImportJobRepository).complete(eq(1L), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("처리 - 해싱 거절 행은 SERVICE_BUSY 로 기록")
+    void runNext_HashingRejected() {
+        // given
+        claimable(MemberImportStatus.PENDING);
+        when(memberImportRowRepository.findByJobIdOrderById(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(staged(11L, 1, 1, 1), staged(12L, 2, 2, 2)));
+        when(passwordHashingService.encodeAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture("encodedPassword"))
+                .thenReturn(CompletableFuture.failedFuture(new MemberException(MemberErrorCode.SERVICE_BUSY)));
+
+        // when
+        memberImportService.runNext();
+
+        // then
+        assertThat(reportedErrors).extracting(MemberImportErrorEntity::getErrorCode)
+                .containsExactly(MemberErrorCode.SERVICE_BUSY.getCode());
+        verify(memberImportJobRepository).recordProgress(eq(1L), anyString(), eq(1), eq(1), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("처리 - 중복 검사 이후 다른 요청이 먼저 가입하면 다시 검사하여 나머지만 저장")
+    void runNext_RetriesAfterUniqueViolation() {
+        // given
+        claimable(MemberImportStatus.PENDING);
+        when(memberImportRowRepository.findByJobIdOrderById(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(staged(11L, 1, 1, 1), staged(12L, 2, 2, 2)));
+        when(memberRepository.findIdentifiersIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new MemberIdentifiers("user0001", "other@naver.com", "010-0000-0000")));
+        when(memberRepository.insertAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("unique"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        memberImportService.runNext();
+
+        // then
+        assertThat(reportedErrors).extracting(MemberImportErrorEntity::getErrorCode)
+                .containsExactly(MemberErrorCode.DUPLICATE_USER_ID.getCode());
+        verify(passwordHashingService, times(2)).encodeAsync(anyString());
+        verify(memberImportJobRepository).recordProgress(eq(1L), anyString(), eq(1), eq(1), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("처리 - 선점을 잃으면 그 청크를 롤백하고 완료 처리하지 않음")
+    void runNext_StopsWhenLeaseLost() {
+        // given
+        memberImportService = importService(1);
+        claimable(MemberImportStatus.RUNNING);
+        when(memberImportRowRepository.findByJobIdOrderById(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(staged(11L, 1, 1, 1)));
+        when(memberImportJobRepository.recordProgress(eq(1L), anyString(), anyInt(), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // when
+        memberImportService.runNext();
+
+        // then
+        verify(memberImportRowRepository, times(1)).findByJobIdOrderById(eq(1L), any(Pageable.class));
+        verify(memberImportJobRepository, never()).complete(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 작업을 만들지 않고, 필수 컬럼이 없는 CSV 는 만든 작업을 지우고 거절")
+    void submit_InvalidFormat() {
+        assertThatThrownBy(() -> memberImportService.submit(MediaType.APPLICATION_JSON, body("{}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(memberImportJobRepository, never()).saveAndFlush(any());
+
+        assertThatThrownBy(() -> memberImportService.submit(TEXT_CSV, body("userId,password\nuser0001,x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+        verify(memberImportRowRepository).deleteAllByJobId(1L);
+        verify(memberImportJobRepository).deleteById(1L);
+        verify(memberImportJobRepository, never()).accept(anyLong(), anyInt(), anyInt());
+    }
+
+    private MemberImportService importService(int chunkSize) {
+        return new MemberImportService(memberRepository, memberImportJobRepository, memberImportRowRepository,
+                memberImportErrorRepository, messageService, passwordHashingService, memberMapper,
+                new MemberIdentifierFilter(null, null, new SimpleMeterRegistry(), 1000, 0.01),
+                transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                new MemberMetrics(new SimpleMeterRegistry()), chunkSize, 32, 100, 60_000);
+    }
+
+    private MemberImportJobEntity claimable(MemberImportStatus status) {
+        MemberImportJobEntity job = MemberImportJobEntity.builder()
+                .id(1L)
+                .status(status)
+                .requestId("req-1")
+                .build();
+        when(memberImportJobRepository.findRunnableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(job));
+        return job;
+    }
+
+    private MemberImportRowEntity staged(long id, long line, int user, int contact) {
+        return staged(id, line, user, contact, String.format("user%04d@naver.com", user));
+    }
+
+    private MemberImportRowEntity staged(long id, long line, int user, int contact, String email) {
+        try {
+            return MemberImportRowEntity.builder()
+                    .id(id)
+                    .jobId(1L)
+                    .line(line)
+                    .request(objectMapper.writeValueAsString(MemberJoinRequest.builder()
+                            .userId(String.format("user%04d", user))
+                            .password("password1!")
+                            .name("나비")
+                            .contact(String.format("010-1000-%04d", contact))
+                            .email(email)
+                            .build()))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
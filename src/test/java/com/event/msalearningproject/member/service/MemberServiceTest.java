@@ -1,32 +1,50 @@
 package com.event.msalearningproject.member.service;
 
+import com.event.msalearningproject.member.dto.MemberAvailabilityResponse;
+import com.event.msalearningproject.member.dto.MemberBulkExitResponse;
 import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberPageResponse;
 import com.event.msalearningproject.member.dto.MemberResponse;
 import com.event.msalearningproject.member.exception.MemberErrorCode;
 import com.event.msalearningproject.member.exception.MemberException;
 import com.event.msalearningproject.member.mapper.MemberMapper;
+import com.event.msalearningproject.member.repository.MemberDuplicateProbe;
 import com.event.msalearningproject.member.repository.MemberRepository;
 import com.event.msalearningproject.member.repository.MessageHistoryRepository;
 import com.event.msalearningproject.member.repository.entity.MemberEntity;
 import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
-
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,11 +61,30 @@ class MemberServiceTest {
     private MessageService messageService;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private MemberCache memberCache = new MemberCache(new SimpleMeterRegistry(),
+            TransactionOperations.withoutTransaction(), 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private MemberMetrics memberMetrics = new MemberMetrics(meterRegistry);
+
+    // 적재(warmUp) 전이므로 항상 DB 확인
+    @Spy
+    private MemberIdentifierFilter memberIdentifierFilter = new MemberIdentifierFilter(null, null, new SimpleMeterRegistry(), 1000, 0.01);
+
     @InjectMocks
     private MemberService memberService;
 
@@ -93,11 +130,11 @@ class MemberServiceTest {
     @DisplayName("회원가입 성공")
     void join_Success() {
         // given
-        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByContact(anyString())).thenReturn(Optional.empty());
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(null, null, null));
         when(memberMapper.toEntity(any(MemberJoinRequest.class))).thenReturn(memberEntity);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        givenTransactionTemplateExecutesCallback();
         when(memberRepository.save(any(MemberEntity.class))).thenReturn(memberEntity);
         when(memberMapper.toResponse(any(MemberEntity.class))).thenReturn(memberResponse);
 
@@ -109,13 +146,12 @@ class MemberServiceTest {
         assertThat(result.getUserId()).isEqualTo("testuser");
         assertThat(result.getName()).isEqualTo("춘봉");
 
-        verify(memberRepository).findByUserId("testuser");
-        verify(memberRepository).findByEmail("testuser@naver.com");
-        verify(memberRepository).findByContact("010-1234-5678");
+        verify(memberRepository).probeDuplicates("testuser", "testuser@naver.com", "010-1234-5678");
+        verify(memberRepository, never()).findByUserId(anyString());
         verify(memberMapper).toEntity(joinRequest);
-        verify(passwordEncoder).encode("password123");
+        verify(passwordHashingService).encode("password123");
         verify(memberRepository).save(any(MemberEntity.class));
-        verify(messageService).sendJoinMessage(any(MemberEntity.class));
+        verify(messageService).enqueueJoinMessage(any(MemberEntity.class));
         verify(memberMapper).toResponse(any(MemberEntity.class));
     }
 
@@ -123,14 +159,55 @@ class MemberServiceTest {
     @DisplayName("회원가입 실패 - 중복된 사용자 ID")
     void join_Fail_DuplicateUserId() {
         // given
-        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(memberEntity));
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(1L, 1L, 1L));
 
         // when & then
         assertThatThrownBy(() -> memberService.join(joinRequest))
                 .isInstanceOf(MemberException.class)
                 .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.DUPLICATE_USER_ID);
 
-        verify(memberRepository).findByUserId("testuser");
+        verify(memberRepository).probeDuplicates("testuser", "testuser@naver.com", "010-1234-5678");
+        verify(memberRepository, never()).save(any(MemberEntity.class));
+        verify(passwordHashingService, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 시 오류 코드별 메트릭 기록")
+    void join_Fail_RecordsErrorMetrics() {
+        // given
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(1L, 0L, 0L));
+
+        // when
+        assertThatThrownBy(() -> memberService.join(joinRequest))
+                .isInstanceOf(MemberException.class);
+
+        // then
+        assertThat(meterRegistry.get("member.operation.errors")
+                .tags("operation", "join", "error_code", "DUPLICATE_USER_ID")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("member.operation")
+                .tags("operation", "join", "outcome", "business_error")
+                .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 해싱 큐 포화")
+    void join_Fail_HashingBusy() {
+        // given
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(null, null, null));
+        when(memberMapper.toEntity(any(MemberJoinRequest.class))).thenReturn(memberEntity);
+        when(passwordHashingService.encode(anyString())).thenThrow(new MemberException(MemberErrorCode.SERVICE_BUSY));
+
+        // when & then
+        assertThatThrownBy(() -> memberService.join(joinRequest))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.SERVICE_BUSY);
+
+        // 해싱이 실패하면 트랜잭션을 시작하지 않음
+        verify(transactionTemplate, never()).execute(any());
         verify(memberRepository, never()).save(any(MemberEntity.class));
     }
 
@@ -138,16 +215,15 @@ class MemberServiceTest {
     @DisplayName("회원가입 실패 - 중복된 이메일")
     void join_Fail_DuplicateEmail() {
         // given
-        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(memberEntity));
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(0L, 1L, 1L));
 
         // when & then
         assertThatThrownBy(() -> memberService.join(joinRequest))
                 .isInstanceOf(MemberException.class)
                 .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.DUPLICATE_EMAIL);
 
-        verify(memberRepository).findByUserId("testuser");
-        verify(memberRepository).findByEmail("testuser@naver.com");
+        verify(memberRepository).probeDuplicates("testuser", "testuser@naver.com", "010-1234-5678");
         verify(memberRepository, never()).save(any(MemberEntity.class));
     }
 
@@ -155,18 +231,15 @@ class MemberServiceTest {
     @DisplayName("회원가입 실패 - 중복된 연락처")
     void join_Fail_DuplicateContact() {
         // given
-        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByContact(anyString())).thenReturn(Optional.of(memberEntity));
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(0L, 0L, 1L));
 
         // when & then
         assertThatThrownBy(() -> memberService.join(joinRequest))
                 .isInstanceOf(MemberException.class)
                 .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.DUPLICATE_CONTACT);
 
-        verify(memberRepository).findByUserId("testuser");
-        verify(memberRepository).findByEmail("testuser@naver.com");
-        verify(memberRepository).findByContact("010-1234-5678");
+        verify(memberRepository).probeDuplicates("testuser", "testuser@naver.com", "010-1234-5678");
         verify(memberRepository, never()).save(any(MemberEntity.class));
     }
 
@@ -174,11 +247,11 @@ class MemberServiceTest {
     @DisplayName("회원가입 실패 - db 오류")
     void join_Fail_DatabaseError() {
         // given
-        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(memberRepository.findByContact(anyString())).thenReturn(Optional.empty());
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(null, null, null));
         when(memberMapper.toEntity(any(MemberJoinRequest.class))).thenReturn(memberEntity);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        givenTransactionTemplateExecutesCallback();
         when(memberRepository.save(any(MemberEntity.class))).thenThrow(new DataIntegrityViolationException("DB Error"));
 
         // when & then
@@ -187,10 +260,69 @@ class MemberServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.DATABASE_ERROR);
     }
 
+    @Test
+    @DisplayName("회원가입 - Bloom filter 에 없는 값이면 DB 중복 검사 생략")
+    void join_SkipsProbe_WhenFilterNegative() {
+        // given
+        doReturn(false).when(memberIdentifierFilter).mightContainAny(anyString(), anyString(), anyString());
+        when(memberMapper.toEntity(any(MemberJoinRequest.class))).thenReturn(memberEntity);
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        givenTransactionTemplateExecutesCallback();
+        when(memberRepository.save(any(MemberEntity.class))).thenReturn(memberEntity);
+        when(memberMapper.toResponse(any(MemberEntity.class))).thenReturn(memberResponse);
+
+        // when
+        memberService.join(joinRequest);
+
+        // then
+        verify(memberRepository, never()).probeDuplicates(anyString(), anyString(), anyString());
+        verify(memberIdentifierFilter).put("testuser", "testuser@naver.com", "010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - DB 중복 검사를 생략했는데 unique 제약 위반이면 DB 로 중복 항목 확인")
+    void join_Fail_FilterNegativeButDuplicate() {
+        // given
+        doReturn(false).when(memberIdentifierFilter).mightContainAny(anyString(), anyString(), anyString());
+        when(memberMapper.toEntity(any(MemberJoinRequest.class))).thenReturn(memberEntity);
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        givenTransactionTemplateExecutesCallback();
+        when(memberRepository.save(any(MemberEntity.class))).thenThrow(new DataIntegrityViolationException("unique"));
+        when(memberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(new MemberDuplicateProbe(0L, 1L, 0L));
+
+        // when & then
+        assertThatThrownBy(() -> memberService.join(joinRequest))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.DUPLICATE_EMAIL);
+        verify(memberIdentifierFilter, never()).put(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("사용 가능 여부 - Bloom filter 결과와 관계없이 요청한 항목은 항상 DB 로 확인")
+    void checkAvailability() {
+        // given
+        when(memberRepository.existsByUserId("newuser")).thenReturn(false);
+        // 다른 노드에서 가입한 이메일은 이 노드의 Bloom filter 에 없을 수 있음
+        when(memberRepository.existsByEmail("testuser@naver.com")).thenReturn(true);
+
+        // when
+        MemberAvailabilityResponse result = memberService.checkAvailability("newuser", "testuser@naver.com", null);
+
+        // then
+        assertThat(result.getUserIdAvailable()).isTrue();
+        assertThat(result.getEmailAvailable()).isFalse();
+        assertThat(result.getContactAvailable()).isNull();
+        verify(memberRepository).existsByUserId("newuser");
+        verify(memberRepository, never()).existsByContact(anyString());
+        verify(memberIdentifierFilter, never()).mightContainEmail(anyString());
+    }
+
     @Test
     @DisplayName("회원탈퇴 성공")
     void exit_Success() {
         // given
+        givenTransactionTemplateExecutesCallback();
         when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(memberEntity));
         when(memberRepository.save(any(MemberEntity.class))).thenReturn(memberEntity);
 
@@ -200,14 +332,34 @@ class MemberServiceTest {
         // then
         verify(memberRepository).findByUserId("testuser");
         verify(memberRepository).save(any(MemberEntity.class));
-        verify(messageService).sendExitMessage(any(MemberEntity.class));
-        verify(messageHistoryRepository).deleteByMemberId(1L);
+        verify(messageService).enqueueExitMessage(any(MemberEntity.class));
+        verify(messageHistoryRepository).deleteAllByMemberIdIn(List.of(1L));
+        verify(memberCache).evictAfterCommit(memberEntity);
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 후 캐시된 활성 회원 정보가 제거됨")
+    void exit_EvictsCachedMember() {
+        // given
+        givenTransactionTemplateExecutesCallback();
+        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(memberEntity));
+        when(memberRepository.save(any(MemberEntity.class))).thenReturn(memberEntity);
+        when(memberMapper.toResponse(any(MemberEntity.class))).thenReturn(memberResponse);
+        memberService.findByUserId("testuser");
+
+        // when
+        memberService.exit("testuser");
+        memberService.findByUserId("testuser");
+
+        // then - 탈퇴 전 조회 / 탈퇴 처리 / 탈퇴 후 재조회 모두 DB 조회
+        verify(memberRepository, times(3)).findByUserId("testuser");
     }
 
     @Test
     @DisplayName("회원탈퇴 실패 - 존재하지 않는 사용자")
     void exit_Fail_MemberNotFound() {
         // given
+        givenTransactionTemplateExecutesCallback();
         when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
 
         // when & then
@@ -223,6 +375,7 @@ class MemberServiceTest {
     @DisplayName("회원탈퇴 실패 - 이미 탈퇴한 사용자")
     void exit_Fail_AlreadyExited() {
         // given
+        givenTransactionTemplateExecutesCallback();
         MemberEntity inactiveMember = MemberEntity.builder()
                 .id(1L)
                 .userId("testuser")
@@ -239,6 +392,53 @@ class MemberServiceTest {
         verify(memberRepository, never()).save(any(MemberEntity.class));
     }
 
+    @Test
+    @DisplayName("회원 일괄 탈퇴 - 청크 단위 UPDATE/DELETE, 없는 회원은 skipped")
+    void bulkExit_Success() {
+        // given
+        givenTransactionTemplateExecutesCallback();
+        when(memberRepository.findActiveForUpdateByUserIdIn(anyList())).thenReturn(List.of(memberEntity));
+        when(memberRepository.deactivateAllByIdIn(anyList(), any(LocalDateTime.class))).thenReturn(1);
+        when(messageHistoryRepository.deleteAllByMemberIdIn(anyList())).thenReturn(3);
+
+        // when
+        MemberBulkExitResponse result = memberService.bulkExit(List.of("testuser", "nonexistent", "testuser"));
+
+        // then
+        assertThat(result.getRequested()).isEqualTo(2);
+        assertThat(result.getExited()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getDeletedHistories()).isEqualTo(3);
+
+        verify(memberRepository).findActiveForUpdateByUserIdIn(List.of("testuser", "nonexistent"));
+        verify(messageService).enqueueExitMessages(List.of(memberEntity));
+        verify(memberRepository).deactivateAllByIdIn(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(messageHistoryRepository).deleteAllByMemberIdIn(List.of(1L));
+        verify(memberRepository, never()).save(any(MemberEntity.class));
+        verify(memberCache).evictAllAfterCommit(List.of(memberEntity));
+    }
+
+    @Test
+    @DisplayName("회원 일괄 탈퇴 - 1000명 단위로 트랜잭션 분리")
+    void bulkExit_SplitsIntoChunks() {
+        // given
+        givenTransactionTemplateExecutesCallback();
+        when(memberRepository.findActiveForUpdateByUserIdIn(anyList())).thenReturn(List.of());
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            userIds.add("user" + i);
+        }
+
+        // when
+        MemberBulkExitResponse result = memberService.bulkExit(userIds);
+
+        // then
+        assertThat(result.getRequested()).isEqualTo(2500);
+        assertThat(result.getSkipped()).isEqualTo(2500);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(memberRepository, never()).deactivateAllByIdIn(anyList(), any(LocalDateTime.class));
+    }
+
     @Test
     @DisplayName("사용자 ID로 회원 조회 성공")
     void findByUserId_Success() {
@@ -257,6 +457,34 @@ class MemberServiceTest {
         verify(memberMapper).toResponse(memberEntity);
     }
 
+    @Test
+    @DisplayName("사용자 ID로 회원 조회 - 캐시 hit 시 DB 조회 없음")
+    void findByUserId_CacheHit() {
+        // given
+        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(memberEntity));
+        when(memberMapper.toResponse(any(MemberEntity.class))).thenReturn(memberResponse);
+
+        // when
+        memberService.findByUserId("testuser");
+        MemberResponse result = memberService.findByUserId("testuser");
+
+        // then
+        assertThat(result.getUserId()).isEqualTo("testuser");
+        verify(memberRepository, times(1)).findByUserId("testuser");
+    }
+
+    @Test
+    @DisplayName("사용자 ID로 회원 조회 - 존재하지 않는 사용자는 캐시하지 않음")
+    void findByUserId_NotFoundIsNotCached() {
+        // given
+        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> memberService.findByUserId("nonexistent")).isInstanceOf(MemberException.class);
+        assertThatThrownBy(() -> memberService.findByUserId("nonexistent")).isInstanceOf(MemberException.class);
+        verify(memberRepository, times(2)).findByUserId("nonexistent");
+    }
+
     @Test
     @DisplayName("사용자 ID로 회원 조회 실패 - 존재하지 않는 사용자")
     void findByUserId_Fail_MemberNotFound() {
@@ -304,23 +532,61 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("활성 회원 목록 조회")
-    void getAllActiveMembers_Success() {
+    @DisplayName("활성 회원 커서 페이지 조회 - 다음 페이지 있음")
+    void getActiveMembers_HasNext() {
         // given
-        List<MemberEntity> activeMembers = List.of(memberEntity);
-        List<MemberResponse> expectedResponses = List.of(memberResponse);
+        List<MemberEntity> members = List.of(memberEntity);
+        when(memberRepository.findByActiveTrueAndIdGreaterThan(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(members, PageRequest.of(0, 1), true));
+        when(memberMapper.toActiveResponseList(members)).thenReturn(List.of(memberResponse));
 
-        when(memberRepository.findByActiveTrue()).thenReturn(activeMembers);
-        when(memberMapper.toActiveResponseList(activeMembers)).thenReturn(expectedResponses);
+        // when
+        MemberPageResponse result = memberService.getActiveMembers(null, 1);
+
+        // then
+        assertThat(result.getMembers()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(1L);
+        verify(memberRepository).findByActiveTrueAndIdGreaterThan(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("활성 회원 커서 페이지 조회 - 마지막 페이지")
+    void getActiveMembers_LastPage() {
+        // given
+        when(memberRepository.findByActiveTrueAndIdGreaterThan(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 100), false));
+        when(memberMapper.toActiveResponseList(List.of())).thenReturn(List.of());
+
+        // when
+        MemberPageResponse result = memberService.getActiveMembers(1L, 100);
+
+        // then
+        assertThat(result.getMembers()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("활성 회원 스트리밍 내보내기 - 한 건씩 전달 후 영속성 컨텍스트에서 분리")
+    void exportActiveMembers_Success() {
+        // given
+        when(memberRepository.streamActiveMembers()).thenReturn(Stream.of(memberEntity));
+        when(memberMapper.toResponse(memberEntity)).thenReturn(memberResponse);
+        List<MemberResponse> exported = new ArrayList<>();
 
         // when
-        List<MemberResponse> result = memberService.getAllActiveMembers();
+        memberService.exportActiveMembers(exported::add);
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getUserId()).isEqualTo("testuser");
+        assertThat(exported).containsExactly(memberResponse);
+        verify(entityManager).detach(memberEntity);
+        verify(memberRepository, never()).findByActiveTrue();
+    }
 
-        verify(memberRepository).findByActiveTrue();
-        verify(memberMapper).toActiveResponseList(activeMembers);
+    @SuppressWarnings("unchecked")
+    private void givenTransactionTemplateExecutesCallback() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,282 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageCampaignRequest;
+import com.event.msalearningproject.member.dto.MessageCampaignResponse;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.exception.MessageSendException;
+import com.event.msalearningproject.member.repository.CampaignRecipient;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.MessageCampaignRepository;
+import com.event.msalearningproject.member.repository.entity.CampaignStatus;
+import com.event.msalearningproject.member.repository.entity.MessageCampaignEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageCampaignService 테스트")
+class MessageCampaignServiceTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MessageCampaignRepository messageCampaignRepository;
+
+    @Mock
+    private MessageDeliveryService messageDeliveryService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final BatchRecordingSender smsSender = new BatchRecordingSender();
+    private MessageCampaignService messageCampaignService;
+
+    @BeforeEach
+    void setUp() {
+        MessageSenders messageSenders = new MessageSenders(List.of(smsSender),
+                new MessageMetrics(new SimpleMeterRegistry()), new MessageGatewayProperties());
+        messageCampaignService = new MessageCampaignService(memberRepository, messageCampaignRepository, messageSenders,
+                messageDeliveryService, transactionTemplate, PAGE_SIZE, 60_000);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("접수 시 캠페인만 저장하고 발송하지 않음")
+    void submit_SavesPendingCampaign() {
+        // given
+        when(messageCampaignRepository.findByCampaignKey("key-1")).thenReturn(Optional.empty());
+        when(messageCampaignRepository.saveAndFlush(any(MessageCampaignEntity.class))).thenAnswer(invocation -> {
+            MessageCampaignEntity campaign = invocation.getArgument(0);
+            campaign.setId(10L);
+            return campaign;
+        });
+
+        // when
+        MessageCampaignResponse response = messageCampaignService.submit(request(), "key-1");
+
+        // then
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo(CampaignStatus.PENDING);
+        assertThat(smsSender.batches).isEmpty();
+        verify(memberRepository, never()).findCampaignRecipients(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 접수하면 새로 만들지 않고 처음 캠페인을 반환, 내용이 다르면 거부")
+    void submit_Idempotent() {
+        // given
+        MessageCampaignEntity existing = campaign(CampaignStatus.RUNNING, 0L);
+        when(messageCampaignRepository.findByCampaignKey(anyString())).thenReturn(Optional.of(existing));
+        MessageCampaignRequest changed = MessageCampaignRequest.builder()
+                .messageType(MessageType.SMS)
+                .content("다른 안내")
+                .build();
+
+        // when
+        MessageCampaignResponse response = messageCampaignService.submit(request(), null);
+
+        // then
+        assertThat(response.getId()).isEqualTo(existing.getId());
+        assertThat(response.getStatus()).isEqualTo(CampaignStatus.RUNNING);
+        verify(messageCampaignRepository, never()).saveAndFlush(any());
+        assertThatThrownBy(() -> messageCampaignService.submit(changed, "key-1"))
+                .isInstanceOf(MemberException.class)
+                .extracting("errorCode").isEqualTo(MemberErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("선점한 캠페인의 대상을 id 커서로 나누어 읽고 게이트웨이 다건 발송 단위로 묶어 발송")
+    @SuppressWarnings("unchecked")
+    void runNext_PagesRecipientsAndGroupsIntoBatches() {
+        // given
+        MessageCampaignEntity campaign = campaign(CampaignStatus.PENDING, 0L);
+        when(messageCampaignRepository.findRunnableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(campaign));
+        when(memberRepository.findCampaignRecipients(eq(MessageType.SMS), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(recipient(1L), recipient(2L), recipient(3L)));
+        when(memberRepository.findCampaignRecipients(eq(MessageType.SMS), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(recipient(4L)));
+        when(messageCampaignRepository.recordProgress(eq(1L), anyString(), anyLong(), anyInt(), anyInt(), anyInt(),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        boolean claimed = messageCampaignService.runNext();
+
+        // then
+        assertThat(claimed).isTrue();
+        assertThat(campaign.getStatus()).isEqualTo(CampaignStatus.RUNNING);
+        assertThat(smsSender.batches).extracting(List::size).containsExactly(2, 1, 1);
+        assertThat(smsSender.batches.get(0)).extracting(MessageEvent::getRequestId).containsOnly("req-1");
+
+        // 이력은 페이지마다 한 번씩 batch 저장하고 커서 / 건수를 캠페인에 반영
+        ArgumentCaptor<List<MessageSenders.Result>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageDeliveryService, times(2)).recordAll(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(3, 1);
+        verify(messageCampaignRepository).recordProgress(eq(1L), eq(campaign.getLeaseToken()), eq(3L), eq(3), eq(3), eq(0),
+                any(LocalDateTime.class));
+        verify(messageCampaignRepository).recordProgress(eq(1L), eq(campaign.getLeaseToken()), eq(4L), eq(1), eq(1), eq(0),
+                any(LocalDateTime.class));
+        verify(messageCampaignRepository).complete(eq(1L), eq(campaign.getLeaseToken()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("선점 기한이 지난 캠페인은 마지막으로 반영된 커서부터 이어서 발송")
+    void runNext_ResumesFromCursor() {
+        // given
+        MessageCampaignEntity campaign = campaign(CampaignStatus.RUNNING, 3L);
+        when(messageCampaignRepository.findRunnableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(campaign));
+        when(memberRepository.findCampaignRecipients(eq(MessageType.SMS), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(recipient(4L)));
+        when(messageCampaignRepository.recordProgress(eq(1L), anyString(), eq(4L), eq(1), eq(1), eq(0),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        messageCampaignService.runNext();
+
+        // then
+        verify(memberRepository, never()).findCampaignRecipients(eq(MessageType.SMS), eq(0L), any(Pageable.class));
+        assertThat(smsSender.batches).extracting(List::size).containsExactly(1);
+        verify(messageCampaignRepository).complete(eq(1L), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("진행 반영 시 선점을 잃었으면 발송을 멈추고 완료 처리하지 않음")
+    void runNext_StopsWhenLeaseLost() {
+        // given
+        MessageCampaignEntity campaign = campaign(CampaignStatus.PENDING, 0L);
+        when(messageCampaignRepository.findRunnableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(campaign));
+        when(memberRepository.findCampaignRecipients(eq(MessageType.SMS), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(recipient(1L), recipient(2L), recipient(3L)));
+        when(messageCampaignRepository.recordProgress(eq(1L), anyString(), anyLong(), anyInt(), anyInt(), anyInt(),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        messageCampaignService.runNext();
+
+        // then
+        verify(memberRepository, never()).findCampaignRecipients(eq(MessageType.SMS), eq(3L), any(Pageable.class));
+        verify(messageCampaignRepository, never()).complete(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다건 요청이 실패하면 그 묶음의 수신자만 실패로 기록")
+    @SuppressWarnings("unchecked")
+    void runNext_FailedBatchMarksOnlyItsRecipients() {
+        // given
+        smsSender.failBatchContaining = "010-0000-0003";
+        when(messageCampaignRepository.findRunnableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(campaign(CampaignStatus.PENDING, 0L)));
+        when(memberRepository.findCampaignRecipients(eq(MessageType.SMS), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(recipient(1L), recipient(2L), recipient(3L)));
+        when(memberRepository.findCampaignRecipients(eq(MessageType.SMS), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(messageCampaignRepository.recordProgress(eq(1L), anyString(), eq(3L), eq(3), eq(2), eq(1),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        messageCampaignService.runNext();
+
+        // then
+        ArgumentCaptor<List<MessageSenders.Result>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageDeliveryService).recordAll(captor.capture());
+        assertThat(captor.getValue()).extracting(MessageSenders.Result::isSent).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("발송할 캠페인이 없으면 false")
+    void runNext_NothingToRun() {
+        // given
+        when(messageCampaignRepository.findRunnableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThat(messageCampaignService.runNext()).isFalse();
+        verifyNoInteractions(memberRepository, messageDeliveryService);
+    }
+
+    private MessageCampaignEntity campaign(CampaignStatus status, long lastMemberId) {
+        return MessageCampaignEntity.builder()
+                .id(1L)
+                .campaignKey("key-1")
+                .messageType(MessageType.SMS)
+                .content("이벤트 안내")
+                .status(status)
+                .lastMemberId(lastMemberId)
+                .requestId("req-1")
+                .build();
+    }
+
+    private MessageCampaignRequest request() {
+        return MessageCampaignRequest.builder()
+                .messageType(MessageType.SMS)
+                .content("이벤트 안내")
+                .build();
+    }
+
+    private CampaignRecipient recipient(Long id) {
+        return new CampaignRecipient(id, "user" + id, "010-0000-000" + id, "user" + id + "@naver.com");
+    }
+
+    // 다건 요청을 기록하는 SMS 게이트웨이 (batchSize 2)
+    private static class BatchRecordingSender implements MessageSender {
+
+        private final List<List<MessageEvent>> batches = new CopyOnWriteArrayList<>();
+        private volatile String failBatchContaining;
+
+        @Override
+        public MessageType messageType() {
+            return MessageType.SMS;
+        }
+
+        @Override
+        public int batchSize() {
+            return 2;
+        }
+
+        @Override
+        public Mono<Void> send(MessageEvent event) {
+            return sendBatch(List.of(event));
+        }
+
+        @Override
+        public Mono<Void> sendBatch(List<MessageEvent> events) {
+            batches.add(events);
+            boolean fail = events.stream().anyMatch(event -> event.getRecipient().equals(failBatchContaining));
+            return fail ? Mono.error(new MessageSendException("SMS 게이트웨이 오류")) : Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.config.MessageRetryProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.exception.MessageSendException;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.MessageHistoryRepository;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageDeliveryService 테스트")
+class MessageDeliveryServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MessageHistoryRepository messageHistoryRepository;
+
+    @Spy
+    private MessageRetryProperties retryProperties = new MessageRetryProperties();
+
+    @Spy
+    private MessageSenders messageSenders = new MessageSenders(List.of(),
+            new MessageMetrics(new SimpleMeterRegistry()), new MessageGatewayProperties());
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private MessageDeliveryService messageDeliveryService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("메시지 일괄 발송 후 이력을 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void deliverAll_Success() {
+        // given
+        MemberEntity member = MemberEntity.builder().id(1L).userId("testuser").build();
+        when(memberRepository.getReferenceById(anyLong())).thenReturn(member);
+
+        List<MessageEvent> events = List.of(
+                MessageEvent.builder().memberId(1L).userId("testuser").messageType(MessageType.SMS)
+                        .recipient("010-1234-5678").content("회원가입을 축하합니다!").build(),
+                MessageEvent.builder().memberId(1L).userId("testuser").messageType(MessageType.EMAIL)
+                        .recipient("testuser@naver.com").content("회원탈퇴가 완료되었습니다.").build()
+        );
+
+        // when
+        messageDeliveryService.deliverAll(events);
+
+        // then
+        verify(transactionTemplate).execute(any());
+        ArgumentCaptor<List<MessageHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageHistoryRepository, times(1)).insertAll(captor.capture());
+        verify(memberRepository, never()).findById(anyLong());
+
+        List<MessageHistoryEntity> histories = captor.getValue();
+        assertThat(histories).hasSize(2).allMatch(MessageHistoryEntity::isSent);
+        assertThat(histories).extracting(MessageHistoryEntity::getTo)
+                .containsExactly("010-1234-5678", "testuser@naver.com");
+    }
+
+    @Test
+    @DisplayName("일괄 발송 중 한 건이 실패해도 나머지는 발송하고 실패 건은 재시도 대상으로 기록")
+    @SuppressWarnings("unchecked")
+    void deliverAll_PartialFailure() {
+        // given
+        when(memberRepository.getReferenceById(anyLong())).thenReturn(MemberEntity.builder().id(1L).build());
+        doAnswer(invocation -> invocation.getArgument(0, MessageEvent.class).getMessageType() == MessageType.EMAIL
+                ? Mono.error(new MessageSendException("EMAIL 게이트웨이 오류"))
+                : invocation.callRealMethod())
+                .when(messageSenders).send(any(MessageEvent.class));
+
+        List<MessageEvent> events = List.of(
+                MessageEvent.builder().memberId(1L).userId("testuser").messageType(MessageType.EMAIL)
+                        .recipient("testuser@naver.com").content("회원가입을 축하합니다!").build(),
+                MessageEvent.builder().memberId(1L).userId("testuser").messageType(MessageType.SMS)
+                        .recipient("010-1234-5678").content("회원가입을 축하합니다!").build()
+        );
+
+        // when
+        messageDeliveryService.deliverAll(events);
+
+        // then
+        ArgumentCaptor<List<MessageHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageHistoryRepository).insertAll(captor.capture());
+
+        List<MessageHistoryEntity> histories = captor.getValue();
+        assertThat(histories).extracting(MessageHistoryEntity::isSent).containsExactly(false, true);
+        assertThat(histories.get(0).getErrorMessage()).contains("게이트웨이 오류");
+        assertThat(histories.get(0).getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("최종 실패 메시지는 sent=false 와 오류 메시지로 기록")
+    void recordFailure_Success() {
+        // given
+        when(memberRepository.getReferenceById(anyLong())).thenReturn(MemberEntity.builder().id(1L).build());
+
+        MessageEvent event = MessageEvent.builder().memberId(1L).userId("testuser").messageType(MessageType.EMAIL)
+                .recipient("testuser@naver.com").content("회원가입을 축하합니다!").build();
+
+        // when
+        messageDeliveryService.recordFailure(event, "x".repeat(600));
+
+        // then
+        ArgumentCaptor<MessageHistoryEntity> captor = ArgumentCaptor.forClass(MessageHistoryEntity.class);
+        verify(messageHistoryRepository).save(captor.capture());
+        MessageHistoryEntity history = captor.getValue();
+        assertThat(history.isSent()).isFalse();
+        assertThat(history.getErrorMessage()).hasSize(500);
+        assertThat(history.getMessageType()).isEqualTo(MessageType.EMAIL);
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원에게 발송한 메시지(탈퇴 안내)는 파기된 발송 이력을 다시 만들지 않도록 저장하지 않음")
+    @SuppressWarnings("unchecked")
+    void deliverAll_SkipsHistoryOfExitedMember() {
+        // given
+        when(memberRepository.findInactiveIdsIn(any())).thenReturn(List.of(2L));
+        when(memberRepository.getReferenceById(1L)).thenReturn(MemberEntity.builder().id(1L).build());
+
+        List<MessageEvent> events = List.of(
+                MessageEvent.builder().memberId(1L).userId("testuser").messageType(MessageType.SMS)
+                        .recipient("010-1234-5678").content("회원가입을 축하합니다!").build(),
+                MessageEvent.builder().memberId(2L).userId("exituser").messageType(MessageType.SMS)
+                        .recipient("010-2222-3333").content("회원탈퇴가 완료되었습니다.").build()
+        );
+
+        // when
+        messageDeliveryService.deliverAll(events);
+
+        // then
+        ArgumentCaptor<List<MessageHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageHistoryRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(MessageHistoryEntity::getTo).containsExactly("010-1234-5678");
+        verify(memberRepository, never()).getReferenceById(2L);
+    }
+
+    @Test
+    @DisplayName("AMQP 단건 발송 - 탈퇴 회원이면 발송만 하고 이력은 저장하지 않음")
+    void deliverOrThrow_ExitedMember() {
+        // given
+        when(memberRepository.findInactiveIdsIn(any())).thenReturn(List.of(2L));
+        MessageEvent event = MessageEvent.builder().memberId(2L).userId("exituser").messageType(MessageType.SMS)
+                .recipient("010-2222-3333").content("회원탈퇴가 완료되었습니다.").build();
+
+        // when
+        messageDeliveryService.deliverOrThrow(event);
+
+        // then
+        verify(messageSenders).sendOrThrow(event);
+        verify(messageHistoryRepository, never()).save(any(MessageHistoryEntity.class));
+    }
+
+    @Test
+    @DisplayName("실패 이력 재발송 시 회원의 userId 를 함께 전달")
+    void resend_CarriesUserId() {
+        // given
+        MessageHistoryEntity history = MessageHistoryEntity.builder()
+                .id(10L)
+                .member(MemberEntity.builder().id(1L).userId("testuser").build())
+                .messageType(MessageType.SMS)
+                .to("010-1234-5678")
+                .content("회원가입을 축하합니다!")
+                .attempts(1)
+                .requestId("req-1")
+                .build();
+
+        // when
+        boolean sent = messageDeliveryService.resend(history);
+
+        // then
+        ArgumentCaptor<MessageEvent> captor = ArgumentCaptor.forClass(MessageEvent.class);
+        verify(messageSenders).sendOrThrow(captor.capture());
+        assertThat(sent).isTrue();
+        assertThat(captor.getValue().getUserId()).isEqualTo("testuser");
+        assertThat(captor.getValue().getRequestId()).isEqualTo("req-1");
+        assertThat(history.getAttempts()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,170 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageRetryProperties;
+import com.event.msalearningproject.member.repository.MemberRepository;
+import com.event.msalearningproject.member.repository.MessageHistoryRepository;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageRetryService 테스트")
+class MessageRetryServiceTest {
+
+    @Mock
+    private MessageHistoryRepository messageHistoryRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MessageDeliveryService messageDeliveryService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final MessageRetryProperties retryProperties = new MessageRetryProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    private MessageRetryService messageRetryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        executor.setCorePoolSize(MessageType.values().length);
+        executor.initialize();
+        messageRetryService = new MessageRetryService(messageHistoryRepository, memberRepository, messageDeliveryService,
+                retryProperties, transactionTemplate, executor, meterRegistry);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 이력을 MessageType 별로 재발송하고 결과를 한 번에 반영")
+    void retryDue_ResendsAndCompletes() {
+        // given
+        MessageHistoryEntity sms = failedHistory(1L, MessageType.SMS, 1);
+        MessageHistoryEntity email = failedHistory(2L, MessageType.EMAIL, 1);
+        when(messageHistoryRepository.findRetryableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(sms, email));
+        doAnswer(invocation -> {
+            MessageHistoryEntity history = invocation.getArgument(0);
+            history.setAttempts(history.getAttempts() + 1);
+            history.setSent(history.getMessageType() == MessageType.SMS);
+            history.setNextAttemptAt(history.isSent() ? null : LocalDateTime.now().plusMinutes(1));
+            return history.isSent();
+        }).when(messageDeliveryService).resend(any(MessageHistoryEntity.class));
+
+        MessageHistoryEntity managedSms = failedHistory(1L, MessageType.SMS, 1);
+        MessageHistoryEntity managedEmail = failedHistory(2L, MessageType.EMAIL, 1);
+        when(messageHistoryRepository.findAllById(any())).thenReturn(List.of(managedSms, managedEmail));
+
+        // when
+        int retried = messageRetryService.retryDue();
+
+        // then
+        assertThat(retried).isEqualTo(2);
+        verify(memberRepository).findAllById(Set.of(1L));
+        assertThat(managedSms.isSent()).isTrue();
+        assertThat(managedSms.getAttempts()).isEqualTo(2);
+        assertThat(managedSms.getNextAttemptAt()).isNull();
+        assertThat(managedEmail.isSent()).isFalse();
+        assertThat(managedEmail.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.get("message.retry.processed")
+                .tags("message_type", "SMS", "result", "sent").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("message.retry.processed")
+                .tags("message_type", "EMAIL", "result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 없으면 발송하지 않음")
+    void retryDue_NothingDue() {
+        // given
+        when(messageHistoryRepository.findRetryableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        int retried = messageRetryService.retryDue();
+
+        // then
+        assertThat(retried).isZero();
+        verify(messageDeliveryService, never()).resend(any());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 지수적으로 증가하고 최대 시도 횟수에 도달하면 중단")
+    void nextAttemptAt_ExponentialBackoffWithCap() {
+        // given
+        retryProperties.setInitialBackoffMs(1000);
+        retryProperties.setMaxBackoffMs(5000);
+        retryProperties.setMaxAttempts(5);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when & then
+        assertThat(retryProperties.nextAttemptAt(1, now)).isEqualTo(now.plusSeconds(1));
+        assertThat(retryProperties.nextAttemptAt(2, now)).isEqualTo(now.plusSeconds(2));
+        assertThat(retryProperties.nextAttemptAt(3, now)).isEqualTo(now.plusSeconds(4));
+        assertThat(retryProperties.nextAttemptAt(4, now)).isEqualTo(now.plusSeconds(5));
+        assertThat(retryProperties.nextAttemptAt(5, now)).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 건수를 gauge 로 노출")
+    void refreshBacklog_UpdatesGauge() {
+        // given
+        when(messageHistoryRepository.countRetryBacklog()).thenReturn(42L);
+
+        // when
+        messageRetryService.refreshBacklog();
+
+        // then
+        assertThat(meterRegistry.get("message.retry.backlog").gauge().value()).isEqualTo(42.0);
+    }
+
+    private MessageHistoryEntity failedHistory(Long id, MessageType messageType, int attempts) {
+        return MessageHistoryEntity.builder()
+                .id(id)
+                .member(MemberEntity.builder().id(1L).build())
+                .messageType(messageType)
+                .content("회원가입을 축하합니다!")
+                .to("010-1234-5678")
+                .sent(false)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
@@ -1,19 +1,27 @@
 package com.event.msalearningproject.member.service;
 
-import com.event.msalearningproject.member.repository.MessageHistoryRepository;
+import com.event.msalearningproject.config.RequestIdFilter;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.repository.MessageOutboxRepository;
 import com.event.msalearningproject.member.repository.entity.MemberEntity;
-import com.event.msalearningproject.member.repository.entity.MessageHistoryEntity;
+import com.event.msalearningproject.member.repository.entity.MessageOutboxEntity;
 import com.event.msalearningproject.member.repository.entity.MessageType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -23,15 +31,24 @@ import static org.mockito.Mockito.*;
 class MessageServiceTest {
 
     @Mock
-    private MessageHistoryRepository messageHistoryRepository;
+    private MessageOutboxRepository messageOutboxRepository;
+
+    @Mock
+    private MessagePublisher messagePublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
-    @InjectMocks
     private MessageService messageService;
 
     private MemberEntity memberEntity;
 
     @BeforeEach
     void setUp() {
+        messageService = new MessageService(messageOutboxRepository, messagePublisher, transactionTemplate, 60_000);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+
         memberEntity = MemberEntity.builder()
                 .id(1L)
                 .userId("testuser")
@@ -45,114 +62,130 @@ class MessageServiceTest {
     }
 
     @Test
-    @DisplayName("회원가입 메시지 전송 성공")
-    void sendJoinMessage_Success() {
-        // given
-        MessageHistoryEntity expectedHistory = MessageHistoryEntity.builder()
-                .member(memberEntity)
-                .messageType(MessageType.SMS)
-                .to("010-1234-5678")
-                .content("회원가입을 축하합니다!")
-                .sent(true)
-                .build();
-
-        when(messageHistoryRepository.save(any(MessageHistoryEntity.class))).thenReturn(expectedHistory);
-
+    @DisplayName("회원가입 메시지 outbox 적재")
+    void enqueueJoinMessage_Success() {
         // when
-        messageService.sendJoinMessage(memberEntity);
+        messageService.enqueueJoinMessage(memberEntity);
 
         // then
-        verify(messageHistoryRepository).save(any(MessageHistoryEntity.class));
+        ArgumentCaptor<MessageOutboxEntity> captor = ArgumentCaptor.forClass(MessageOutboxEntity.class);
+        verify(messageOutboxRepository).save(captor.capture());
+
+        MessageOutboxEntity outbox = captor.getValue();
+        assertThat(outbox.getUserId()).isEqualTo("testuser");
+        assertThat(outbox.getMessageType()).isEqualTo(MessageType.SMS);
+        assertThat(outbox.getRecipient()).isEqualTo("010-1234-5678");
+        assertThat(outbox.getContent()).isEqualTo("회원가입을 축하합니다!");
     }
 
     @Test
-    @DisplayName("회원가입 메시지 전송 실패")
-    void sendJoinMessage_Failure() {
+    @DisplayName("outbox 에 적재한 요청의 requestId 가 발송 이벤트까지 전달됨")
+    void enqueueJoinMessage_CarriesRequestId() {
         // given
-        when(messageHistoryRepository.save(any(MessageHistoryEntity.class)))
-                .thenThrow(new RuntimeException("메시지 전송 실패"));
+        MDC.put(RequestIdFilter.MDC_KEY, "req-123");
 
-        // when & then
-        assertThatThrownBy(() -> messageService.sendJoinMessage(memberEntity))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("메시지 전송 실패");
+        // when
+        try {
+            messageService.enqueueJoinMessage(memberEntity);
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
 
-        verify(messageHistoryRepository, times(1)).save(any(MessageHistoryEntity.class));
+        // then
+        ArgumentCaptor<MessageOutboxEntity> captor = ArgumentCaptor.forClass(MessageOutboxEntity.class);
+        verify(messageOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getRequestId()).isEqualTo("req-123");
+        assertThat(MessageEvent.from(captor.getValue()).getRequestId()).isEqualTo("req-123");
     }
 
     @Test
-    @DisplayName("회원탈퇴 메시지 전송 성공")
-    void sendExitMessage_Success() {
+    @DisplayName("일괄 탈퇴 메시지 outbox 적재 - saveAll 한 번으로 저장")
+    @SuppressWarnings("unchecked")
+    void enqueueExitMessages_Success() {
         // given
-        MessageHistoryEntity expectedHistory = MessageHistoryEntity.builder()
-                .member(memberEntity)
-                .messageType(MessageType.SMS)
-                .to("010-1234-5678")
-                .content("회원탈퇴가 완료되었습니다.")
-                .sent(true)
+        MemberEntity emailMember = MemberEntity.builder()
+                .id(2L)
+                .userId("emailuser")
+                .email("emailuser@naver.com")
+                .contact("010-2222-3333")
+                .messageType(MessageType.EMAIL)
                 .build();
 
-        when(messageHistoryRepository.save(any(MessageHistoryEntity.class))).thenReturn(expectedHistory);
-
         // when
-        messageService.sendExitMessage(memberEntity);
+        messageService.enqueueExitMessages(List.of(memberEntity, emailMember));
 
         // then
-        verify(messageHistoryRepository).save(any(MessageHistoryEntity.class));
+        ArgumentCaptor<List<MessageOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageOutboxRepository).saveAll(captor.capture());
+        verify(messageOutboxRepository, never()).save(any(MessageOutboxEntity.class));
+
+        assertThat(captor.getValue()).extracting(MessageOutboxEntity::getRecipient)
+                .containsExactly("010-1234-5678", "emailuser@naver.com");
+        assertThat(captor.getValue()).allMatch(outbox -> outbox.getContent().equals("회원탈퇴가 완료되었습니다."));
     }
 
     @Test
-    @DisplayName("회원탈퇴 메시지 전송 실패")
-    void sendExitMessage_Failure() {
+    @DisplayName("outbox 배치 발송 - 선점 후 publisher 로 넘기고 선점한 outbox 만 삭제")
+    @SuppressWarnings("unchecked")
+    void dispatchOutbox_Success() {
         // given
-        when(messageHistoryRepository.save(any(MessageHistoryEntity.class)))
-                .thenThrow(new RuntimeException("메시지 전송 실패"));
+        List<MessageOutboxEntity> outbox = outbox();
+        when(messageOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(outbox);
 
-        // when & then
-        assertThatThrownBy(() -> messageService.sendExitMessage(memberEntity))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("메시지 전송 실패");
+        // when
+        int dispatched = messageService.dispatchOutbox(10);
 
-        verify(messageHistoryRepository, times(1)).save(any(MessageHistoryEntity.class));
+        // then
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(outbox).allMatch(entity -> entity.getClaimedUntil() != null
+                && entity.getClaimedUntil().isAfter(LocalDateTime.now()));
+
+        ArgumentCaptor<List<MessageEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messagePublisher).publish(captor.capture());
+        assertThat(captor.getValue()).extracting(MessageEvent::getMemberId).containsOnly(1L);
+        assertThat(captor.getValue()).extracting(MessageEvent::getContent)
+                .containsExactly("회원가입을 축하합니다!", "회원탈퇴가 완료되었습니다.");
+        verify(messageOutboxRepository).deleteAllInBatch(outbox);
     }
 
     @Test
-    @DisplayName("SMS 타입 회원의 메시지 전송")
-    void sendMessage_SMS_Type() {
+    @DisplayName("outbox 발행 실패 - 삭제하지 않고 선점을 풀어 다음 주기에 다시 발행")
+    void dispatchOutbox_PublishFailure() {
         // given
-        MemberEntity smsMember = MemberEntity.builder()
-                .contact("010-1234-5678")
-                .email("나비@naver.com")
-                .messageType(MessageType.SMS)
-                .build();
-
-        when(messageHistoryRepository.save(any(MessageHistoryEntity.class)))
-                .thenReturn(MessageHistoryEntity.builder().build());
-
-        // when
-        messageService.sendJoinMessage(smsMember);
+        List<MessageOutboxEntity> outbox = outbox();
+        when(messageOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(outbox);
+        doThrow(new IllegalStateException("broker down")).when(messagePublisher).publish(any());
 
-        // then
-        verify(messageHistoryRepository).save(any(MessageHistoryEntity.class));
+        // when & then
+        assertThatThrownBy(() -> messageService.dispatchOutbox(10)).isInstanceOf(IllegalStateException.class);
+        verify(messageOutboxRepository).releaseClaim(List.of(1L, 2L));
+        verify(messageOutboxRepository, never()).deleteAllInBatch(any());
     }
 
     @Test
-    @DisplayName("EMAIL 타입 회원의 메시지 전송")
-    void sendMessage_EMAIL_Type() {
+    @DisplayName("outbox 가 비어 있으면 아무것도 저장하지 않음")
+    void dispatchOutbox_Empty() {
         // given
-        MemberEntity emailMember = MemberEntity.builder()
-                .contact("010-1234-5678")
-                .email("첨지@naver.com")
-                .messageType(MessageType.EMAIL)
-                .build();
-
-        when(messageHistoryRepository.save(any(MessageHistoryEntity.class)))
-                .thenReturn(MessageHistoryEntity.builder().build());
+        when(messageOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
 
         // when
-        messageService.sendJoinMessage(emailMember);
+        int dispatched = messageService.dispatchOutbox(10);
 
         // then
-        verify(messageHistoryRepository).save(any(MessageHistoryEntity.class));
+        assertThat(dispatched).isZero();
+        verify(messagePublisher, never()).publish(any());
+        verify(messageOutboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    private List<MessageOutboxEntity> outbox() {
+        return List.of(
+                MessageOutboxEntity.builder().id(1L).member(memberEntity).userId("testuser")
+                        .messageType(MessageType.SMS).recipient("010-1234-5678").content("회원가입을 축하합니다!").build(),
+                MessageOutboxEntity.builder().id(2L).member(memberEntity).userId("testuser")
+                        .messageType(MessageType.SMS).recipient("010-1234-5678").content("회원탈퇴가 완료되었습니다.").build()
+        );
     }
-} 
\ No newline at end of file
+}
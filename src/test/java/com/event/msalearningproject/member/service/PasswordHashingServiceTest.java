@@ -0,0 +1,101 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingService 테스트")
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 성공 시 소요 시간 기록")
+    void encode_Success() {
+        // given
+        executor = executor(1, 1);
+        PasswordHashingService service = new PasswordHashingService(fixedEncoder(null), executor, meterRegistry, 1000);
+
+        // when
+        String encoded = service.encode("password123");
+
+        // then
+        assertThat(encoded).isEqualTo("encoded:password123");
+        assertThat(meterRegistry.get("member.password.hash").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.password.hash.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 SERVICE_BUSY 로 즉시 거절")
+    void encode_Rejected_WhenQueueFull() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        executor = executor(1, 1);
+        PasswordHashingService service = new PasswordHashingService(fixedEncoder(release), executor, meterRegistry, 5000);
+
+        // 스레드 1개 + 큐 1개를 채움
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        // when & then
+        assertThatThrownBy(() -> service.encode("password123"))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.SERVICE_BUSY);
+        assertThat(meterRegistry.get("member.password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.password.hash.queue").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    private ThreadPoolTaskExecutor executor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    private PasswordEncoder fixedEncoder(CountDownLatch latch) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (latch != null) {
+                    await(latch);
+                }
+                return "encoded:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
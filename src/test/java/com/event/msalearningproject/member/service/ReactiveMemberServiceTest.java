@@ -0,0 +1,196 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.member.dto.MemberJoinRequest;
+import com.event.msalearningproject.member.dto.MemberResponse;
+import com.event.msalearningproject.member.exception.MemberErrorCode;
+import com.event.msalearningproject.member.exception.MemberException;
+import com.event.msalearningproject.member.mapper.MemberMapper;
+import com.event.msalearningproject.member.repository.MemberDuplicateProbe;
+import com.event.msalearningproject.member.repository.ReactiveMemberRepository;
+import com.event.msalearningproject.member.repository.ReactiveMemberWriter;
+import com.event.msalearningproject.member.repository.entity.MemberEntity;
+import com.event.msalearningproject.member.repository.entity.MemberRecord;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveMemberService 테스트")
+class ReactiveMemberServiceTest {
+
+    @Mock
+    private ReactiveMemberRepository reactiveMemberRepository;
+
+    @Mock
+    private ReactiveMemberWriter reactiveMemberWriter;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private MemberMapper memberMapper;
+
+    @Mock
+    private TransactionalOperator reactiveTransactionalOperator;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache entityCache;
+
+    @Spy
+    private MemberCache memberCache = new MemberCache(new SimpleMeterRegistry(),
+            TransactionOperations.withoutTransaction(), 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+    // 적재(warmUp) 전이므로 항상 DB 확인
+    @Spy
+    private MemberIdentifierFilter memberIdentifierFilter = new MemberIdentifierFilter(null, null, new SimpleMeterRegistry(), 1000, 0.01);
+
+    @InjectMocks
+    private ReactiveMemberService reactiveMemberService;
+
+    private MemberJoinRequest joinRequest;
+    private MemberRecord member;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        joinRequest = MemberJoinRequest.builder()
+                .userId("testuser")
+                .password("password123")
+                .name("테스트")
+                .email("test@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .build();
+
+        member = MemberRecord.builder()
+                .id(1L)
+                .userId("testuser")
+                .name("테스트")
+                .email("test@naver.com")
+                .contact("010-1234-5678")
+                .messageType(MessageType.SMS)
+                .joinDate(LocalDateTime.now())
+                .active(true)
+                .build();
+
+        // 트랜잭션 경계는 그대로 통과
+        lenient().when(reactiveTransactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("회원가입 성공 - 해싱 후 회원 저장과 가입 메시지 적재")
+    void join_Success() {
+        // given
+        MemberResponse response = MemberResponse.builder().userId("testuser").build();
+        when(reactiveMemberRepository.probeDuplicates("testuser", "test@naver.com", "010-1234-5678"))
+                .thenReturn(Mono.just(new MemberDuplicateProbe(0L, 0L, 0L)));
+        when(passwordHashingService.encodeAsync("password123"))
+                .thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+        when(memberMapper.toRecord(joinRequest)).thenReturn(member);
+        when(reactiveMemberWriter.insert(member)).thenReturn(Mono.just(member));
+        when(reactiveMemberWriter.enqueueMessage(member, MessageService.JOIN_MESSAGE)).thenReturn(Mono.empty());
+        when(memberMapper.toResponse(member)).thenReturn(response);
+
+        // when & then
+        StepVerifier.create(reactiveMemberService.join(joinRequest))
+                .expectNext(response)
+                .verifyComplete();
+        verify(memberCache).evict("testuser", "010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 중복 사용자 ID 면 해싱하지 않음")
+    void join_DuplicateUserId() {
+        // given
+        when(reactiveMemberRepository.probeDuplicates(anyString(), anyString(), anyString()))
+                .thenReturn(Mono.just(new MemberDuplicateProbe(1L, 0L, 0L)));
+
+        // when & then
+        StepVerifier.create(reactiveMemberService.join(joinRequest))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(MemberException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.DUPLICATE_USER_ID))
+                .verify();
+        verify(passwordHashingService, never()).encodeAsync(anyString());
+        verify(reactiveMemberWriter, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("회원 조회 실패 - 존재하지 않는 사용자")
+    void findByUserId_NotFound() {
+        // given
+        when(reactiveMemberRepository.findByUserId("nonexistent")).thenReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(reactiveMemberService.findByUserId("nonexistent"))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(MemberException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.MEMBER_NOT_FOUND))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 성공 - 비활성화, 탈퇴 메시지 적재, 발송 이력 삭제, 2차 캐시 제거")
+    void exit_Success() {
+        // given
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
+        when(reactiveMemberRepository.findByUserId("testuser")).thenReturn(Mono.just(member));
+        when(reactiveMemberRepository.deactivate(eq(1L), any(LocalDateTime.class))).thenReturn(Mono.just(1));
+        when(reactiveMemberWriter.enqueueMessage(member, MessageService.EXIT_MESSAGE)).thenReturn(Mono.empty());
+        when(reactiveMemberWriter.deleteHistories(1L)).thenReturn(Mono.just(3L));
+
+        // when & then
+        StepVerifier.create(reactiveMemberService.exit("testuser"))
+                .verifyComplete();
+        verify(reactiveMemberWriter).deleteHistories(1L);
+        verify(memberCache).evict("testuser", "010-1234-5678");
+        verify(entityCache).evict(MemberEntity.class, 1L);
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 실패 - 다른 요청이 먼저 탈퇴 처리")
+    void exit_ConcurrentlyExited() {
+        // given
+        when(reactiveMemberRepository.findByUserId("testuser")).thenReturn(Mono.just(member));
+        when(reactiveMemberRepository.deactivate(eq(1L), any(LocalDateTime.class))).thenReturn(Mono.just(0));
+        lenient().when(reactiveMemberWriter.deleteHistories(anyLong())).thenReturn(Mono.just(0L));
+
+        // when & then
+        StepVerifier.create(reactiveMemberService.exit("testuser"))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(MemberException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", MemberErrorCode.ALREADY_EXITED))
+                .verify();
+        verify(reactiveMemberWriter, never()).enqueueMessage(any(), anyString());
+        verify(memberCache, never()).evict(anyString(), anyString());
+        verify(entityManagerFactory, never()).getCache();
+    }
+}
@@ -0,0 +1,59 @@
+package com.event.msalearningproject.member.service;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 발송 adapter 테스트용 로컬 게이트웨이 (임의 포트)
+ * 응답 상태 코드와 지연을 바꿔가며 timeout / circuit breaker / bulkhead 동작을 확인
+ */
+class StubMessageGateway implements AutoCloseable {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final DisposableServer server;
+
+    private volatile int status = 200;
+    private volatile Duration delay = Duration.ZERO;
+
+    StubMessageGateway() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/send", (request, response) -> request.receive().aggregate()
+                        .then(Mono.defer(() -> {
+                            requests.incrementAndGet();
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            return Mono.delay(delay);
+                        }))
+                        .doFinally(signal -> inFlight.decrementAndGet())
+                        .then(Mono.defer(() -> Mono.from(response.status(status).send())))))
+                .bindNow();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    void respond(int status, Duration delay) {
+        this.status = status;
+        this.delay = delay;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
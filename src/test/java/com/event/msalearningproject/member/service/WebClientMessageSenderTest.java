@@ -0,0 +1,173 @@
+package com.event.msalearningproject.member.service;
+
+import com.event.msalearningproject.config.MessageGatewayProperties;
+import com.event.msalearningproject.member.dto.MessageEvent;
+import com.event.msalearningproject.member.exception.MessageSendException;
+import com.event.msalearningproject.member.repository.entity.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebClientMessageSender 테스트")
+class WebClientMessageSenderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageGatewayProperties properties = new MessageGatewayProperties();
+    private final MessageEvent event = MessageEvent.builder()
+            .memberId(1L)
+            .userId("testuser")
+            .messageType(MessageType.SMS)
+            .recipient("010-1234-5678")
+            .content("회원가입을 축하합니다!")
+            .build();
+
+    private StubMessageGateway gateway;
+    private MessageGatewayProperties.Provider provider;
+    private SmsMessageSender sender;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new StubMessageGateway();
+        provider = new MessageGatewayProperties.Provider();
+        provider.setBaseUrl(gateway.baseUrl());
+        provider.setResponseTimeoutMs(200);
+        provider.setTimeoutMs(500);
+        properties.setProviders(Map.of(MessageType.SMS, provider));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.destroy();
+        }
+        gateway.close();
+    }
+
+    @Test
+    @DisplayName("게이트웨이 2xx 응답이면 발송 성공")
+    void send_Success() {
+        // given
+        sender = createSender();
+
+        // when & then
+        StepVerifier.create(sender.send(event)).verifyComplete();
+        assertThat(gateway.requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 제한 시간을 넘기면 MessageSendException")
+    void send_Timeout() {
+        // given
+        gateway.respond(200, Duration.ofSeconds(2));
+        sender = createSender();
+
+        // when & then
+        StepVerifier.create(sender.send(event))
+                .expectError(MessageSendException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 게이트웨이를 호출하지 않고 즉시 실패")
+    void send_CircuitOpen() {
+        // given
+        gateway.respond(503, Duration.ZERO);
+        provider.setFailureThreshold(3);
+        sender = createSender();
+
+        // when
+        IntStream.range(0, 3).forEach(i -> StepVerifier.create(sender.send(event))
+                .expectError(MessageSendException.class)
+                .verify());
+
+        // then
+        StepVerifier.create(sender.send(event))
+                .expectErrorMessage("SMS 게이트웨이 호출 차단 중 (circuit open)")
+                .verify();
+        assertThat(gateway.requests()).isEqualTo(3);
+        assertThat(meterRegistry.get("message.gateway.circuit.open").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 게이트웨이 장애로 보지 않아 circuit 이 열리지 않음")
+    void send_ClientErrorDoesNotOpenCircuit() {
+        // given
+        gateway.respond(400, Duration.ZERO);
+        provider.setFailureThreshold(1);
+        sender = createSender();
+
+        // when & then
+        StepVerifier.create(sender.send(event)).expectError(MessageSendException.class).verify();
+        StepVerifier.create(sender.send(event)).expectError(MessageSendException.class).verify();
+        assertThat(gateway.requests()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 maxInFlight 를 넘으면 초과분은 대기 없이 실패")
+    void send_BulkheadRejectsExcess() {
+        // given
+        gateway.respond(200, Duration.ofMillis(100));
+        provider.setMaxInFlight(2);
+        sender = createSender();
+
+        // when
+        List<Boolean> results = Flux.range(0, 5)
+                .flatMap(i -> sender.send(event).thenReturn(true).onErrorReturn(false))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(results).containsOnly(true, false);
+        assertThat(results.stream().filter(sent -> sent).count()).isEqualTo(2);
+        assertThat(gateway.maxInFlight()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get("message.gateway.rejected").tag("reason", "bulkhead").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("sendAll 은 maxInFlight 보다 큰 묶음도 한도 안에서 나눠 모두 발송")
+    void sendAll_BatchLargerThanMaxInFlight() {
+        // given
+        gateway.respond(200, Duration.ofMillis(50));
+        provider.setMaxInFlight(5);
+        sender = createSender();
+        MessageSenders messageSenders = new MessageSenders(List.of(sender), new MessageMetrics(meterRegistry), properties);
+        List<MessageEvent> events = IntStream.range(0, 20)
+                .mapToObj(i -> MessageEvent.builder()
+                        .memberId((long) i)
+                        .userId("user" + i)
+                        .messageType(MessageType.SMS)
+                        .recipient("010-1234-5678")
+                        .content("회원가입을 축하합니다!")
+                        .build())
+                .toList();
+
+        // when
+        List<MessageSenders.Result> results = messageSenders.sendAll(events);
+
+        // then
+        assertThat(results).hasSize(20).allMatch(MessageSenders.Result::isSent);
+        assertThat(results).extracting(result -> result.event().getMemberId())
+                .containsExactlyElementsOf(events.stream().map(MessageEvent::getMemberId).toList());
+        assertThat(gateway.requests()).isEqualTo(20);
+        assertThat(gateway.maxInFlight()).isLessThanOrEqualTo(5);
+        assertThat(meterRegistry.get("message.gateway.rejected").tag("reason", "bulkhead").counter().count())
+                .isZero();
+    }
+
+    private SmsMessageSender createSender() {
+        return new SmsMessageSender(WebClient.builder(), properties, meterRegistry);
+    }
+}